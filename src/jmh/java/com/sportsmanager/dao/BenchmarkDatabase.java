@@ -0,0 +1,73 @@
+package com.sportsmanager.dao;
+
+import com.sportsmanager.model.User;
+import com.sportsmanager.tools.DatasetGenerator;
+import com.sportsmanager.util.SessionManager;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The generated SQLite dataset every benchmark runs against
+ * Built once (bench.seed, bench.scale) into bench.db and reused by later forks and runs;
+ * delete the file after changing the generator or the schema.
+ */
+public final class BenchmarkDatabase {
+    public static final long SEED = Long.getLong("bench.seed", 42L);
+    public static final String SCALE = System.getProperty("bench.scale", "benchmark");
+    public static final Path FILE = Path.of(System.getProperty("bench.db",
+            "target/bench-data/sports-" + SCALE + "-" + SEED + ".db"));
+
+    private static ConnectionProvider provider;
+    private static int[] sportIds;
+
+    private BenchmarkDatabase() {
+        // Static access only
+    }
+
+    /**
+     * Generate the dataset if needed and point every DAO at it, signed in as an admin
+     */
+    public static synchronized ConnectionProvider open() throws SQLException {
+        if (provider == null) {
+            DatasetGenerator.ensureSqlite(FILE, SEED, DatasetGenerator.Scale.named(SCALE));
+            provider = DataSources.sqlite(FILE.toString());
+            DataSources.use(provider);
+            // Admins see every tournament, so the tournament queries don't depend on ownership
+            SessionManager.getInstance().login(
+                    new User("00000000-0000-0000-0000-000000000000", "bench", "Benchmark", "bench@example.com", "admin"),
+                    "benchmark");
+
+            try (Connection conn = provider.getConnection();
+                 Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT id FROM sports s WHERE EXISTS " +
+                         "(SELECT 1 FROM teams t WHERE t.sport_id = s.id) ORDER BY id")) {
+                List<Integer> ids = new ArrayList<>();
+                while (rs.next()) {
+                    ids.add(rs.getInt(1));
+                }
+                sportIds = ids.stream().mapToInt(Integer::intValue).toArray();
+            }
+        }
+        return provider;
+    }
+
+    /**
+     * Generated sports, in id order
+     */
+    public static int[] sportIds() {
+        return sportIds;
+    }
+
+    public static synchronized void close() {
+        if (provider != null) {
+            provider.close();
+            provider = null;
+        }
+    }
+}
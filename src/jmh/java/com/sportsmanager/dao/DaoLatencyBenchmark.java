@@ -0,0 +1,136 @@
+package com.sportsmanager.dao;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the DAO read paths the UI calls, end to end: pooled connection, query and mapping
+ * Sampled, so the JSON results carry p50/p90/p99 per method. Each call moves to the next sport
+ * (or tournament) so the numbers aren't one hot set of pages.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog.dao.mode=off")
+public class DaoLatencyBenchmark {
+    private final SportDAO sportDAO = new SportDAO();
+    private final TeamDAO teamDAO = new TeamDAO();
+    private final MatchDAO matchDAO = new MatchDAO();
+    private final TournamentDAO tournamentDAO = new TournamentDAO();
+    private final SearchDAO searchDAO = new SearchDAO();
+
+    private int[] sportIds;
+    private int[] tournamentIds;
+    private int sport;
+    private int tournament;
+
+    @Setup
+    public void setUp() throws SQLException {
+        ConnectionProvider provider = BenchmarkDatabase.open();
+        sportIds = BenchmarkDatabase.sportIds();
+        try (Connection conn = provider.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT id FROM tournaments ORDER BY id")) {
+            List<Integer> ids = new ArrayList<>();
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+            tournamentIds = ids.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkDatabase.close();
+    }
+
+    private int nextSport() {
+        sport = (sport + 1) % sportIds.length;
+        return sportIds[sport];
+    }
+
+    private int nextTournament() {
+        tournament = (tournament + 1) % tournamentIds.length;
+        return tournamentIds[tournament];
+    }
+
+    @Benchmark
+    public Object getAllSportsCached() throws SQLException {
+        return sportDAO.getAllSports();
+    }
+
+    @Benchmark
+    public Object getAllSportsUncached() throws SQLException {
+        SportDAO.invalidateCache();
+        return sportDAO.getAllSports();
+    }
+
+    @Benchmark
+    public Object getTeamsBySport() throws SQLException {
+        return teamDAO.getTeamsBySport(nextSport());
+    }
+
+    @Benchmark
+    public Object getStandingsBySport() throws SQLException {
+        return teamDAO.getStandingsBySport(nextSport());
+    }
+
+    @Benchmark
+    public Object getMatchesBySport() throws SQLException {
+        return matchDAO.getMatchesBySport(nextSport());
+    }
+
+    @Benchmark
+    public Object getMatchesFirstPage() throws SQLException {
+        return matchDAO.getMatchesPage(nextSport(), null, 50);
+    }
+
+    @Benchmark
+    public Object getTournamentsBySport() throws SQLException {
+        return tournamentDAO.getTournamentsBySport(nextSport());
+    }
+
+    @Benchmark
+    public Object getAllTournaments() throws SQLException {
+        return tournamentDAO.getAllTournaments();
+    }
+
+    @Benchmark
+    public Object getTournamentStats() throws SQLException {
+        return tournamentDAO.getTournamentStats(nextTournament());
+    }
+
+    @Benchmark
+    public Object getTournamentTeamIds() throws SQLException {
+        return tournamentDAO.getTournamentTeamIds(nextTournament());
+    }
+
+    @Benchmark
+    public List<SearchDAO.SearchHit> searchCommonWord() throws SQLException {
+        return searchDAO.search("united", 0, 0, 25);
+    }
+
+    @Benchmark
+    public List<SearchDAO.SearchHit> searchTwoWordsInSport() throws SQLException {
+        return searchDAO.search("springfield lions", nextSport(), 0, 25);
+    }
+}
@@ -0,0 +1,69 @@
+package com.sportsmanager.dao;
+
+import javafx.beans.property.*;
+
+import java.time.LocalDate;
+
+/**
+ * Team and Match as they were before the plain-field models: every column in its own JavaFX property,
+ * created for every row. Benchmark baseline only, so just the fields and constructors are kept.
+ */
+final class LegacyModels {
+
+    private LegacyModels() {
+    }
+
+    static final class Team {
+        private final IntegerProperty id;
+        private final StringProperty name;
+        private final StringProperty coach;
+        private final IntegerProperty wins;
+        private final IntegerProperty losses;
+        private final IntegerProperty draws;
+        private final IntegerProperty points;
+        private final IntegerProperty goalsFor;
+        private final IntegerProperty goalsAgainst;
+        private final IntegerProperty sportId;
+        private final IntegerProperty rank;
+
+        Team(int id, String name, String coach, int wins, int losses, int draws,
+             int points, int goalsFor, int goalsAgainst, int sportId) {
+            this.id = new SimpleIntegerProperty(id);
+            this.name = new SimpleStringProperty(name);
+            this.coach = new SimpleStringProperty(coach);
+            this.wins = new SimpleIntegerProperty(wins);
+            this.losses = new SimpleIntegerProperty(losses);
+            this.draws = new SimpleIntegerProperty(draws);
+            this.points = new SimpleIntegerProperty(points);
+            this.goalsFor = new SimpleIntegerProperty(goalsFor);
+            this.goalsAgainst = new SimpleIntegerProperty(goalsAgainst);
+            this.sportId = new SimpleIntegerProperty(sportId);
+            this.rank = new SimpleIntegerProperty(0);
+        }
+    }
+
+    static final class Match {
+        private final IntegerProperty id;
+        private final StringProperty team1Name;
+        private final StringProperty team2Name;
+        private final ObjectProperty<LocalDate> matchDate;
+        private final StringProperty location;
+        private final IntegerProperty team1Score;
+        private final IntegerProperty team2Score;
+        private final StringProperty status;
+        private final IntegerProperty sportId;
+
+        Match(int id, String team1Name, String team2Name, LocalDate matchDate,
+              String location, int team1Score, int team2Score, String status, int sportId) {
+            this.id = new SimpleIntegerProperty(id);
+            this.team1Name = new SimpleStringProperty(team1Name);
+            this.team2Name = new SimpleStringProperty(team2Name);
+            this.matchDate = new SimpleObjectProperty<>(matchDate);
+            this.location = new SimpleStringProperty(location);
+            this.team1Score = new SimpleIntegerProperty(team1Score);
+            this.team2Score = new SimpleIntegerProperty(team2Score);
+            this.status = new SimpleStringProperty(status);
+            this.sportId = new SimpleIntegerProperty(sportId);
+        }
+    }
+}
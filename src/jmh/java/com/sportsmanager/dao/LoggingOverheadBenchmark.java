@@ -0,0 +1,120 @@
+package com.sportsmanager.dao;
+
+import com.sportsmanager.util.Log;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the per-call DAO log line for each log.dao.mode, with and without log.async
+ * loadTenThousandRows is one TeamDAO load of a 10,000-team sport; singleRowCall loads a one-team sport,
+ * where the log line is most of the work. Sampled, so the results carry p50/p99 per mode.
+ * Log reads its settings once per JVM, so every parameter combination needs its own fork (don't run with -f 0).
+ * Lines go to target/logging-benchmark.log rather than the JMH console.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.logFile=target/logging-benchmark.log")
+public class LoggingOverheadBenchmark {
+    static final int ROWS = 10_000;
+
+    @Param({"off", "sampled", "all"})
+    public String daoMode;
+
+    @Param({"true", "false"})
+    public String async;
+
+    private ConnectionProvider database;
+    private TeamDAO teamDAO;
+    private int largeSportId;
+    private int smallSportId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        // Before anything touches Log, whose settings are fixed when the class loads
+        System.setProperty("log.dao.mode", daoMode);
+        System.setProperty("log.async", async);
+        if (!Log.getDaoMode().name().equalsIgnoreCase(daoMode)) {
+            throw new IllegalStateException("Log was already set up as " + Log.getDaoMode() + "; run with forks");
+        }
+
+        database = DataSources.inMemory();
+        DataSources.use(database);
+        try (Connection conn = database.getConnection()) {
+            List<Integer> sportIds = sportIds(conn);
+            largeSportId = sportIds.get(0);
+            smallSportId = sportIds.get(1);
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO teams (name, coach, sport_id) VALUES (?, ?, ?)")) {
+                for (int i = 0; i < ROWS; i++) {
+                    addTeam(pstmt, "Team " + i, "Coach " + i, largeSportId);
+                }
+                addTeam(pstmt, "Harbor FC", "Coach Smith", smallSportId);
+                pstmt.executeBatch();
+            }
+            conn.commit();
+            conn.setAutoCommit(true);
+            // Benchmark-only: lets singleRowCall look its team up instead of scanning the 10,000
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE INDEX IF NOT EXISTS bench_teams_sport ON teams (sport_id)");
+            }
+        }
+        teamDAO = new TeamDAO();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Log.shutdown();
+        database.close();
+    }
+
+    @Benchmark
+    public Object loadTenThousandRows() throws SQLException {
+        return teamDAO.getTeamsBySport(largeSportId);
+    }
+
+    @Benchmark
+    public Object singleRowCall() throws SQLException {
+        return teamDAO.getTeamsBySport(smallSportId);
+    }
+
+    private static void addTeam(PreparedStatement pstmt, String name, String coach, int sportId) throws SQLException {
+        pstmt.setString(1, name);
+        pstmt.setString(2, coach);
+        pstmt.setInt(3, sportId);
+        pstmt.addBatch();
+    }
+
+    private static List<Integer> sportIds(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT id FROM sports ORDER BY id LIMIT 2")) {
+            List<Integer> ids = new ArrayList<>();
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.sportsmanager.dao;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost per row of the DAO row mappers
+ * Each map* benchmark reads ROWS rows with the DAO's own column list and maps them; the matching
+ * scan* benchmark walks the same rows without mapping, so map minus scan is the mapper itself.
+ * mapLegacy* maps the same columns into the old property-per-column models (LegacyModels), so the
+ * pair shows what the plain-field Team and Match save.
+ * Scores are per row, and with -prof gc gc.alloc.rate.norm is the bytes allocated per row. That includes
+ * the driver's throwaway Strings, which interning turns into garbage in the current models, so it
+ * understates what they save in retained heap; measure that by holding the mapped rows across a GC.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(RowMappingBenchmark.ROWS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog.dao.mode=off")
+public class RowMappingBenchmark {
+    static final int ROWS = 1000;
+
+    private static final String TEAMS_SQL = "SELECT id, name, coach, wins, losses, draws, points, goals_for, " +
+            "goals_against, sport_id FROM teams ORDER BY id LIMIT " + ROWS;
+    private static final String MATCHES_SQL = "SELECT id, team1_name, team2_name, match_date, location, " +
+            "team1_score, team2_score, status, sport_id FROM matches ORDER BY id LIMIT " + ROWS;
+    private static final String TOURNAMENTS_SQL = "SELECT t.id, t.name, t.sport_id, s.name as sport_name, " +
+            "t.tournament_type, t.start_date, t.end_date, t.status, t.description, t.prize_money, " +
+            "t.winner_team_id, tm.name as winner_team_name, t.created_by, p.username as creator_name " +
+            "FROM tournaments t " +
+            "LEFT JOIN sports s ON t.sport_id = s.id " +
+            "LEFT JOIN teams tm ON t.winner_team_id = tm.id " +
+            "LEFT JOIN profiles p ON t.created_by = p.id " +
+            "ORDER BY t.id LIMIT " + ROWS;
+
+    private final TeamDAO teamDAO = new TeamDAO();
+    private final MatchDAO matchDAO = new MatchDAO();
+    private final TournamentDAO tournamentDAO = new TournamentDAO();
+
+    private Connection conn;
+    private PreparedStatement teams;
+    private PreparedStatement matches;
+    private PreparedStatement tournaments;
+
+    @Setup
+    public void setUp() throws SQLException {
+        conn = BenchmarkDatabase.open().getConnection();
+        teams = conn.prepareStatement(TEAMS_SQL);
+        matches = conn.prepareStatement(MATCHES_SQL);
+        tournaments = conn.prepareStatement(TOURNAMENTS_SQL);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        conn.close();
+        BenchmarkDatabase.close();
+    }
+
+    @Benchmark
+    public void mapTeams(Blackhole bh) throws SQLException {
+        try (ResultSet rs = teams.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(teamDAO.createTeamFromResultSet(rs));
+            }
+        }
+    }
+
+    @Benchmark
+    public void mapLegacyTeams(Blackhole bh) throws SQLException {
+        try (ResultSet rs = teams.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(new LegacyModels.Team(
+                        rs.getInt("id"),
+                        rs.getString("name"),
+                        rs.getString("coach"),
+                        rs.getInt("wins"),
+                        rs.getInt("losses"),
+                        rs.getInt("draws"),
+                        rs.getInt("points"),
+                        rs.getInt("goals_for"),
+                        rs.getInt("goals_against"),
+                        rs.getInt("sport_id")));
+            }
+        }
+    }
+
+    @Benchmark
+    public void scanTeams(Blackhole bh) throws SQLException {
+        scan(teams, bh);
+    }
+
+    @Benchmark
+    public void mapMatches(Blackhole bh) throws SQLException {
+        try (ResultSet rs = matches.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(matchDAO.createMatchFromResultSet(rs));
+            }
+        }
+    }
+
+    @Benchmark
+    public void mapLegacyMatches(Blackhole bh) throws SQLException {
+        try (ResultSet rs = matches.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(new LegacyModels.Match(
+                        rs.getInt("id"),
+                        rs.getString("team1_name"),
+                        rs.getString("team2_name"),
+                        rs.getDate("match_date").toLocalDate(),
+                        rs.getString("location"),
+                        rs.getInt("team1_score"),
+                        rs.getInt("team2_score"),
+                        rs.getString("status"),
+                        rs.getInt("sport_id")));
+            }
+        }
+    }
+
+    @Benchmark
+    public void scanMatches(Blackhole bh) throws SQLException {
+        scan(matches, bh);
+    }
+
+    @Benchmark
+    public void mapTournaments(Blackhole bh) throws SQLException {
+        try (ResultSet rs = tournaments.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(tournamentDAO.createTournamentFromResultSet(rs));
+            }
+        }
+    }
+
+    @Benchmark
+    public void scanTournaments(Blackhole bh) throws SQLException {
+        scan(tournaments, bh);
+    }
+
+    // Steps through the rows reading only the id, so the query and cursor cost is all that's left
+    private static void scan(PreparedStatement query, Blackhole bh) throws SQLException {
+        try (ResultSet rs = query.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getInt(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.sportsmanager.dao;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repeated getTeamsBySport/getMatchesBySport with the pool's prepared-statement cache off (0) and on
+ * Each fork opens its own pool with the size under test; the hit rate is printed at the end of the fork.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog.dao.mode=off", "-Dmetrics.enabled=false"})
+public class StatementCacheBenchmark {
+
+    @Param({"0", "32"})
+    public int statementCacheSize;
+
+    private final TeamDAO teamDAO = new TeamDAO();
+    private final MatchDAO matchDAO = new MatchDAO();
+    private int[] sportIds;
+    private int sport;
+
+    @Setup
+    public void setUp() throws SQLException {
+        System.setProperty("db.statement.cache.size", String.valueOf(statementCacheSize));
+        BenchmarkDatabase.open();
+        sportIds = BenchmarkDatabase.sportIds();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.println("🏊 " + DataSources.get().getStats());
+        BenchmarkDatabase.close();
+    }
+
+    private int nextSport() {
+        sport = (sport + 1) % sportIds.length;
+        return sportIds[sport];
+    }
+
+    @Benchmark
+    public Object getTeamsBySport() throws SQLException {
+        return teamDAO.getTeamsBySport(nextSport());
+    }
+
+    @Benchmark
+    public Object getMatchesBySport() throws SQLException {
+        return matchDAO.getMatchesBySport(nextSport());
+    }
+}
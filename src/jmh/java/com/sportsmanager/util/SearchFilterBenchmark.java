@@ -0,0 +1,103 @@
+package com.sportsmanager.util;
+
+import com.sportsmanager.dao.BenchmarkDatabase;
+import com.sportsmanager.dao.MatchDAO;
+import com.sportsmanager.model.Match;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the matches table search box over generated match rows
+ * index is the per-load cost of building the normalized keys; typeQuery replays typing "lions"
+ * a letter at a time (each keystroke narrows the last matches) and then clearing the box;
+ * switchQuery alternates two unrelated words. naiveSwitchQuery is the same search with a predicate
+ * that lowercases every field on every row, as the tables did before the keys were cached.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog.dao.mode=off")
+public class SearchFilterBenchmark {
+    private static final String[] TYPING = {"l", "li", "lio", "lion", "lions", ""};
+    private static final String[] SWITCHING = {"united", "rovers"};
+
+    @Param({"1000", "10000", "50000"})
+    public int rows;
+
+    private ObservableList<Match> source;
+    private SearchFilter<Match> filter;
+    private SearchFilter<Match> reloaded;
+    private FilteredList<Match> naive;
+    private int next;
+
+    @Setup
+    public void setUp() throws SQLException {
+        BenchmarkDatabase.open();
+        List<Match> matches = new MatchDAO().getAllMatches();
+        source = FXCollections.observableArrayList(matches.subList(0, Math.min(rows, matches.size())));
+
+        filter = newFilter();
+        filter.attach(source);
+        reloaded = newFilter();
+        naive = new FilteredList<>(source);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkDatabase.close();
+    }
+
+    private static SearchFilter<Match> newFilter() {
+        return new SearchFilter<>("Matches", null,
+                List.of(Match::getTeam1Name, Match::getTeam2Name, Match::getLocation));
+    }
+
+    @Benchmark
+    public FilteredList<Match> index() {
+        // Re-attaching rebuilds every key, as a table reload does
+        return reloaded.attach(source);
+    }
+
+    @Benchmark
+    public SearchFilter<Match> typeQuery() {
+        for (String text : TYPING) {
+            filter.filter(text);
+        }
+        return filter;
+    }
+
+    @Benchmark
+    public SearchFilter<Match> switchQuery() {
+        filter.filter(SWITCHING[next++ & 1]);
+        return filter;
+    }
+
+    @Benchmark
+    public FilteredList<Match> naiveSwitchQuery() {
+        String query = SWITCHING[next++ & 1];
+        naive.setPredicate(match -> match.getTeam1Name().toLowerCase(Locale.ROOT).contains(query)
+                || match.getTeam2Name().toLowerCase(Locale.ROOT).contains(query)
+                || match.getLocation().toLowerCase(Locale.ROOT).contains(query));
+        return naive;
+    }
+}
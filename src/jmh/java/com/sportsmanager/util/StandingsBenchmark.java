@@ -0,0 +1,129 @@
+package com.sportsmanager.util;
+
+import com.sportsmanager.model.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Standings ordering: a full sort, a full StandingsEngine load, and the incremental re-rank
+ * one recorded result costs (applied and then reversed, so the table stays the same size and shape).
+ * The position cells of one visible page are rendered both ways: the old indexOf scan per cell
+ * and the rank carried on the row.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog.dao.mode=off")
+public class StandingsBenchmark {
+
+    private record Fixture(String team1, String team2, int score1, int score2) {
+    }
+
+    // Rows the standings table shows at once; every layout pass renders a position cell for each
+    private static final int VISIBLE_ROWS = 30;
+
+    @Param({"20", "200", "2000", "20000"})
+    public int teams;
+
+    private List<Team> rows;
+    private Team[] scratch;
+    private StandingsEngine engine;
+    private Fixture[] fixtures;
+    private int next;
+    private int[] scrollOffsets;
+    private int nextScroll;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rows = new ArrayList<>(teams);
+        for (int i = 0; i < teams; i++) {
+            int wins = random.nextInt(30);
+            int draws = random.nextInt(10);
+            int losses = random.nextInt(30);
+            int goalsFor = wins * 2 + draws + random.nextInt(20);
+            rows.add(new Team(i + 1, "Team " + i, "Coach " + i, wins, losses, draws,
+                    wins * 3 + draws, goalsFor, losses * 2 + random.nextInt(20), 1));
+        }
+        scratch = new Team[teams];
+
+        // A sport id per size, so the engines from different @Param values don't share rows
+        engine = StandingsEngine.forSport(-teams);
+        engine.load(rows);
+
+        fixtures = new Fixture[256];
+        for (int i = 0; i < fixtures.length; i++) {
+            int a = random.nextInt(teams);
+            int b = (a + 1 + random.nextInt(teams - 1)) % teams;
+            fixtures[i] = new Fixture("Team " + a, "Team " + b, random.nextInt(5), random.nextInt(5));
+        }
+
+        scrollOffsets = new int[256];
+        for (int i = 0; i < scrollOffsets.length; i++) {
+            scrollOffsets[i] = random.nextInt(Math.max(teams - VISIBLE_ROWS, 0) + 1);
+        }
+    }
+
+    @Benchmark
+    public Team[] sort() {
+        Team[] sorted = rows.toArray(scratch);
+        Arrays.sort(sorted, StandingsEngine.STANDINGS_ORDER);
+        return sorted;
+    }
+
+    @Benchmark
+    public StandingsEngine load() {
+        engine.load(rows);
+        return engine;
+    }
+
+    @Benchmark
+    public int positionCellsByIndexOf() {
+        List<Team> items = engine.getRows();
+        int from = scrollOffsets[nextScroll++ & (scrollOffsets.length - 1)];
+        int to = Math.min(from + VISIBLE_ROWS, items.size());
+        int positions = 0;
+        for (int i = from; i < to; i++) {
+            // What positionCol's cell value factory did before rows carried their rank
+            positions += items.indexOf(items.get(i)) + 1;
+        }
+        return positions;
+    }
+
+    @Benchmark
+    public int positionCellsByRank() {
+        List<Team> items = engine.getRows();
+        int from = scrollOffsets[nextScroll++ & (scrollOffsets.length - 1)];
+        int to = Math.min(from + VISIBLE_ROWS, items.size());
+        int positions = 0;
+        for (int i = from; i < to; i++) {
+            positions += items.get(i).getRank();
+        }
+        return positions;
+    }
+
+    @Benchmark
+    public StandingsEngine applyAndReverseResult() {
+        Fixture fixture = fixtures[next++ & (fixtures.length - 1)];
+        engine.applyResult(fixture.team1(), fixture.team2(), fixture.score1(), fixture.score2());
+        engine.reverseResult(fixture.team1(), fixture.team2(), fixture.score1(), fixture.score2());
+        return engine;
+    }
+}
@@ -1,8 +1,18 @@
 package com.sportsmanager;
 
+import com.sportsmanager.controller.MainController;
+import com.sportsmanager.dao.AsyncDAO;
+import com.sportsmanager.dao.BackupManager;
+import com.sportsmanager.dao.DataSources;
+import com.sportsmanager.dao.DatabaseConnection;
+import com.sportsmanager.dao.LocalReplica;
+import com.sportsmanager.util.Log;
 import com.sportsmanager.util.SessionManager;
+import com.sportsmanager.util.StartupOrchestrator;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.fxml.FXMLLoader;
 
@@ -12,39 +22,84 @@ public class Main extends Application {
 
     @Override
     public void start(Stage primaryStage) throws Exception {
-        try {
-            boolean isLoggedIn = SessionManager.getInstance().isLoggedIn();
-            String fxmlFile = isLoggedIn ? "/fxml/main.fxml" : "/fxml/login.fxml";
-            String windowTitle = isLoggedIn ? "🏆 Sports Manager Pro" : "🏆 Sports Manager Pro - Login";
+        // Warm the pool, reference data and the main screen while the first screen is loading
+        StartupOrchestrator startup = StartupOrchestrator.getInstance();
+        startup.start();
 
-            FXMLLoader loader = new FXMLLoader(Objects.requireNonNull(getClass().getResource(fxmlFile)));
-            javafx.scene.Parent root = loader.load();
+        if (SessionManager.getInstance().isLoggedIn()) {
+            // Remembered session: show the main screen being preloaded, as LoginController does
+            startup.takeMainView().whenComplete((loader, error) -> Platform.runLater(() -> {
+                if (error != null) {
+                    System.err.println("❌ Failed to load main screen, showing login: "
+                            + AsyncDAO.rootCause(error).getMessage());
+                    showLogin(primaryStage);
+                    return;
+                }
+                showMain(primaryStage, loader);
+            }));
+        } else {
+            showLogin(primaryStage);
+        }
+    }
 
-            Scene scene = new Scene(root);
+    private void showMain(Stage primaryStage, FXMLLoader loader) {
+        MainController controller = loader.getController();
+        controller.startSession();
 
+        // The preloaded root already sits in a styled scene
+        Parent root = loader.getRoot();
+        Scene scene = root.getScene();
+        if (scene == null) {
+            scene = new Scene(root);
+            scene.getStylesheets().add(Objects.requireNonNull(getClass().getResource("/css/style.css")).toExternalForm());
+        }
+        show(primaryStage, scene, "🏆 Sports Manager Pro");
+        StartupOrchestrator.getInstance().mark("main screen shown");
+    }
+
+    private void showLogin(Stage primaryStage) {
+        try {
+            FXMLLoader loader = new FXMLLoader(Objects.requireNonNull(getClass().getResource("/fxml/login.fxml")));
+            Parent root = loader.load();
+
+            Scene scene = new Scene(root);
             String css = Objects.requireNonNull(getClass().getResource("/css/style.css")).toExternalForm();
             scene.getStylesheets().add(css);
 
-            primaryStage.setTitle(windowTitle);
+            show(primaryStage, scene, "🏆 Sports Manager Pro - Login");
+            StartupOrchestrator.getInstance().mark("login screen shown");
 
-            // Optimized for 16-inch laptop screen
-            primaryStage.setWidth(1536);    // Full width for 16-inch
-            primaryStage.setHeight(864);    // Full height for 16-inch
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
 
-            // Center on screen
-            primaryStage.setX(0);
-            primaryStage.setY(0);
+    private void show(Stage primaryStage, Scene scene, String windowTitle) {
+        primaryStage.setTitle(windowTitle);
 
-            // Minimum size
-            primaryStage.setMinWidth(1200);
-            primaryStage.setMinHeight(700);
+        // Optimized for 16-inch laptop screen
+        primaryStage.setWidth(1536);    // Full width for 16-inch
+        primaryStage.setHeight(864);    // Full height for 16-inch
 
-            primaryStage.setScene(scene);
-            primaryStage.show();
+        // Center on screen
+        primaryStage.setX(0);
+        primaryStage.setY(0);
 
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        // Minimum size
+        primaryStage.setMinWidth(1200);
+        primaryStage.setMinHeight(700);
+
+        primaryStage.setScene(scene);
+        primaryStage.show();
+    }
+
+    @Override
+    public void stop() {
+        LocalReplica.stop();
+        DatabaseConnection.shutdownAuditLog();
+        BackupManager.getInstance().shutdown();
+        DataSources.get().close();
+        Log.shutdown();
     }
 
     public static void main(String[] args) {
@@ -1,8 +1,12 @@
 package com.sportsmanager.controller;
 
-import com.sportsmanager.dao.SupabaseConnection;
+import com.sportsmanager.dao.AsyncDAO;
+import com.sportsmanager.dao.LastLoginUpdater;
+import com.sportsmanager.dao.DataSources;
 import com.sportsmanager.model.User;
 import com.sportsmanager.util.SessionManager;
+import com.sportsmanager.util.StartupOrchestrator;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -13,6 +17,7 @@ import org.mindrot.jbcrypt.BCrypt;
 
 import java.io.IOException;
 import java.sql.*;
+import java.util.concurrent.CompletableFuture;
 
 public class LoginController {
 
@@ -25,6 +30,9 @@ public class LoginController {
 
     private Stage stage;
 
+    // Main screen built in the background while the login screen is shown
+    private CompletableFuture<FXMLLoader> mainView;
+
     @FXML
     public void initialize() {
         connectionLabel.setText("✅ Connected");
@@ -50,37 +58,70 @@ public class LoginController {
         loginButton.setDisable(true);
         loginButton.setText("Logging in...");
 
-        try {
-            User user = authenticateUser(username, password);
-
-            if (user != null) {
-                System.out.println("✅ User authenticated: " + user.getUsername());
-                String sessionToken = java.util.UUID.randomUUID().toString();
-                SessionManager.getInstance().login(user, sessionToken);
-
-                // Verify session
-                if (SessionManager.getInstance().isLoggedIn()) {
-                    System.out.println("✅ Session created successfully");
-                    System.out.println("👤 Current user: " + SessionManager.getInstance().getCurrentUser().getFullName());
-                    System.out.println("🔑 User role: " + SessionManager.getInstance().getCurrentUser().getRole());
-                    loadMainApplication();
-                } else {
-                    System.err.println("❌ Session creation failed!");
-                    showError("Session creation failed. Please try again.");
-                }
-            } else {
-                showError("Invalid username or password");
-            }
-        } catch (SQLException e) {
-            showError("Database error: " + e.getMessage());
-            e.printStackTrace();
-        } catch (Exception e) {
-            showError("Error: " + e.getMessage());
-            e.printStackTrace();
-        } finally {
-            loginButton.setDisable(false);
-            loginButton.setText("Login");
+        // Verify the password, open pooled connections and build the main screen at the same time
+        long start = System.currentTimeMillis();
+        AsyncDAO.supply(() -> {
+            DataSources.get().warmUp();
+            return null;
+        });
+        if (mainView == null || mainView.isCompletedExceptionally()) {
+            mainView = StartupOrchestrator.getInstance().takeMainView();
+        }
+
+        AsyncDAO.supply(() -> authenticateUser(username, password))
+                .whenComplete((user, error) -> Platform.runLater(() -> onAuthenticated(user, error, start)));
+    }
+
+    private void onAuthenticated(User user, Throwable error, long start) {
+        if (error != null) {
+            Throwable cause = AsyncDAO.rootCause(error);
+            showError((cause instanceof SQLException ? "Database error: " : "Error: ") + cause.getMessage());
+            cause.printStackTrace();
+            resetLoginButton();
+            return;
         }
+
+        if (user == null) {
+            showError("Invalid username or password");
+            resetLoginButton();
+            return;
+        }
+
+        System.out.println("✅ User authenticated: " + user.getUsername()
+                + " (" + (System.currentTimeMillis() - start) + " ms)");
+        String sessionToken = java.util.UUID.randomUUID().toString();
+        SessionManager.getInstance().login(user, sessionToken);
+
+        // Verify session
+        if (!SessionManager.getInstance().isLoggedIn()) {
+            System.err.println("❌ Session creation failed!");
+            showError("Session creation failed. Please try again.");
+            resetLoginButton();
+            return;
+        }
+
+        System.out.println("✅ Session created successfully");
+        System.out.println("👤 Current user: " + SessionManager.getInstance().getCurrentUser().getFullName());
+        System.out.println("🔑 User role: " + SessionManager.getInstance().getCurrentUser().getRole());
+        LastLoginUpdater.getInstance().submit(user.getId());
+
+        mainView.whenComplete((loader, viewError) -> Platform.runLater(() -> {
+            if (viewError != null) {
+                mainView = null;
+                reportMainViewError(AsyncDAO.rootCause(viewError));
+                resetLoginButton();
+                return;
+            }
+            showMainApplication(loader);
+            System.out.println("⏱️ Login to main screen: " + (System.currentTimeMillis() - start) + " ms");
+            StartupOrchestrator.getInstance().mark("main screen shown");
+            System.out.println(StartupOrchestrator.getInstance().getTimingReport());
+        }));
+    }
+
+    private void resetLoginButton() {
+        loginButton.setDisable(false);
+        loginButton.setText("Login");
     }
 
     private User authenticateUser(String username, String password) throws SQLException {
@@ -90,76 +131,59 @@ public class LoginController {
                 "LEFT JOIN user_credentials uc ON p.id = uc.user_id " +
                 "WHERE p.username = ? AND p.is_active = true";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        User user;
+        String storedHash;
+
+        try (Connection conn = DataSources.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, username);
             ResultSet rs = pstmt.executeQuery();
 
-            if (rs.next()) {
-                String storedHash = rs.getString("password_hash");
-
-                if (storedHash == null) {
-                    System.err.println("No password hash found for user: " + username);
-                    return null;
-                }
-
-                if (BCrypt.checkpw(password, storedHash)) {
-                    User user = new User(
-                            rs.getString("id"),
-                            rs.getString("username"),
-                            rs.getString("full_name"),
-                            rs.getString("email"),
-                            rs.getString("role")
-                    );
-                    updateLastLogin(user.getId());
-                    return user;
-                } else {
-                    System.out.println("Password verification failed for user: " + username);
-                }
-            } else {
+            if (!rs.next()) {
                 System.out.println("User not found: " + username);
+                return null;
             }
-        }
-
-        return null;
-    }
 
-    private void updateLastLogin(String userId) {
-        String sql = "UPDATE profiles SET last_login = CURRENT_TIMESTAMP WHERE id = ?::uuid";
+            storedHash = rs.getString("password_hash");
+            user = new User(
+                    rs.getString("id"),
+                    rs.getString("username"),
+                    rs.getString("full_name"),
+                    rs.getString("email"),
+                    rs.getString("role")
+            );
+        }
 
-        try (Connection conn = SupabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        if (storedHash == null) {
+            System.err.println("No password hash found for user: " + username);
+            return null;
+        }
 
-            pstmt.setString(1, userId);
-            pstmt.executeUpdate();
-            System.out.println("Last login updated for user ID: " + userId);
-        } catch (SQLException e) {
-            System.err.println("Failed to update last login: " + e.getMessage());
+        // BCrypt is slow by design, so check it after the pooled connection is returned
+        if (!BCrypt.checkpw(password, storedHash)) {
+            System.out.println("Password verification failed for user: " + username);
+            return null;
         }
+
+        return user;
     }
 
-    private void loadMainApplication() {
+    private void showMainApplication(FXMLLoader loader) {
         try {
             System.out.println("🔄 Loading main application...");
             Stage stage = (Stage) loginButton.getScene().getWindow();
 
-            // Check if FXML file exists
-            java.net.URL fxmlUrl = getClass().getResource("/fxml/main.fxml");
-            if (fxmlUrl == null) {
-                showError("FXML file not found at /fxml/main.fxml");
-                System.err.println("❌ FXML file not found!");
-                return;
-            }
-            System.out.println("✅ FXML file found: " + fxmlUrl);
-
-            FXMLLoader loader = new FXMLLoader(fxmlUrl);
-            System.out.println("🔄 Starting FXML load...");
-            Parent root = loader.load();
-            System.out.println("✅ FXML loaded successfully");
+            MainController controller = loader.getController();
+            controller.startSession();
 
-            Scene scene = new Scene(root, 1728, 972);
-            scene.getStylesheets().add(getClass().getResource("/css/style.css").toExternalForm());
+            // The preloaded root already sits in a styled scene
+            Parent root = loader.getRoot();
+            Scene scene = root.getScene();
+            if (scene == null) {
+                scene = new Scene(root, StartupOrchestrator.MAIN_WIDTH, StartupOrchestrator.MAIN_HEIGHT);
+                scene.getStylesheets().add(getClass().getResource("/css/style.css").toExternalForm());
+            }
 
             stage.setScene(scene);
             stage.setTitle("🏆 Sports Manager Pro");
@@ -167,13 +191,20 @@ public class LoginController {
 
             System.out.println("✅ Main application loaded successfully");
 
-        } catch (IOException e) {
+        } catch (Exception e) {
+            reportMainViewError(e);
+            resetLoginButton();
+        }
+    }
+
+    private void reportMainViewError(Throwable e) {
+        if (e instanceof IOException) {
             System.err.println("❌ IOException while loading main screen:");
             System.err.println("Error message: " + e.getMessage());
             System.err.println("Error cause: " + e.getCause());
             e.printStackTrace();
             showError("Failed to load main screen: " + e.getMessage());
-        } catch (Exception e) {
+        } else {
             System.err.println("❌ Unexpected error while loading main screen:");
             System.err.println("Error type: " + e.getClass().getName());
             System.err.println("Error message: " + e.getMessage());
@@ -213,7 +244,7 @@ public class LoginController {
     private void handleTestConnection() {
         connectionLabel.setText("Testing...");
         new Thread(() -> {
-            boolean connected = SupabaseConnection.testConnection();
+            boolean connected = DataSources.get().testConnection();
             javafx.application.Platform.runLater(() -> {
                 connectionLabel.setText(connected ? "✅ Connected" : "❌ Disconnected");
             });
@@ -3,10 +3,22 @@ package com.sportsmanager.controller;
 import com.sportsmanager.dao.*;
 import com.sportsmanager.model.*;
 import com.sportsmanager.util.SessionManager;
+import com.sportsmanager.util.ConfigManager;
+import com.sportsmanager.util.IntSet;
+import com.sportsmanager.util.LatencyHistogram;
 import com.sportsmanager.util.NotificationUtil;
+import com.sportsmanager.util.SearchFilter;
+import com.sportsmanager.util.StandingsEngine;
+import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.control.skin.VirtualFlow;
+import javafx.scene.Node;
+import javafx.geometry.Orientation;
 import javafx.collections.ObservableList;
 import javafx.collections.FXCollections;
 import javafx.collections.transformation.FilteredList;
@@ -14,9 +26,18 @@ import javafx.collections.transformation.SortedList;
 import javafx.stage.Stage;
 import javafx.geometry.Insets;
 import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.sql.Types;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public class MainController {
 
@@ -126,6 +147,7 @@ public class MainController {
     private TeamDAO teamDAO = new TeamDAO();
     private MatchDAO matchDAO = new MatchDAO();
     private TournamentDAO tournamentDAO = new TournamentDAO();
+    private AsyncDAO asyncDAO = new AsyncDAO();
     private SessionManager session = SessionManager.getInstance();
 
     private Sport selectedSport = null;
@@ -134,6 +156,35 @@ public class MainController {
     private FilteredList<Team> filteredTeams;
     private FilteredList<Match> filteredMatches;
     private FilteredList<Tournament> filteredTournaments;
+    private SearchFilter<Sport> sportSearch;
+    private SearchFilter<Team> teamSearch;
+    private SearchFilter<Match> matchSearch;
+    private SearchFilter<Tournament> tournamentSearch;
+
+    // Set once the logged-in user's header, permissions and data are applied
+    private boolean sessionStarted = false;
+
+    // Latest in-flight background load per table; older ones are stale
+    private final Map<String, CompletableFuture<?>> pendingLoads = new HashMap<>();
+    // Tables filled by one sport switch batch
+    private static final String[] SPORT_DATA_TABLES = {"teams", "teamCombos", "matches", "standings"};
+
+    // Set while the global sport combo pushes its value into the per-tab combos
+    private boolean syncingSportCombos = false;
+
+    // Matches are shown through a bounded window of keyset pages
+    private final int matchPageSize = ConfigManager.getInstance().getInt("ui.matches.page.size", 100);
+    private final int matchMaxPages = ConfigManager.getInstance().getInt("ui.matches.max.pages", 5);
+    private final int searchPageSize = ConfigManager.getInstance().getInt("ui.search.page.size", 25);
+    private ObservableList<Match> matchWindow;
+    private int matchWindowSportId;
+    private boolean hasOlderMatches = false;
+    private boolean hasNewerMatches = false;
+    private boolean matchPageLoading = false;
+
+    // Sport switch latency (request to rendered tables)
+    private long sportSwitchCount = 0;
+    private long sportSwitchTotalMs = 0;
 
     @FXML
     public void initialize() {
@@ -146,7 +197,6 @@ public class MainController {
         }
 
         try {
-            setupHeader();
             setupSportsTable();
             setupTeamsTable();
             setupStandingsTable();
@@ -160,7 +210,6 @@ public class MainController {
             }
 
             setupSearchFilters();
-            setupRoleBasedAccess();
 
             if (scoringTypeCombo != null) {
                 scoringTypeCombo.setItems(FXCollections.observableArrayList(
@@ -181,15 +230,13 @@ public class MainController {
                 ));
             }
 
-            loadSports();
+            System.out.println("✅ MainController initialized successfully");
 
-            // Only load tournaments if table exists
-            if (tournamentsTable != null) {
-                loadTournaments();
+            // Loaded directly after login; a view preloaded off the FX thread waits for startSession()
+            if (session.isLoggedIn() && Platform.isFxApplicationThread()) {
+                startSession();
             }
 
-            System.out.println("✅ MainController initialized successfully");
-
         } catch (Exception e) {
             System.err.println("❌ CRITICAL ERROR in MainController initialization!");
             System.err.println("Error message: " + e.getMessage());
@@ -207,6 +254,26 @@ public class MainController {
         }
     }
 
+    /**
+     * Apply the logged-in user's header, permissions and data
+     * The view itself may be built before login, so this runs separately from initialize()
+     */
+    public void startSession() {
+        if (sessionStarted) {
+            return;
+        }
+        sessionStarted = true;
+
+        setupHeader();
+        setupRoleBasedAccess();
+        loadSports();
+
+        // Only load tournaments if table exists
+        if (tournamentsTable != null) {
+            loadTournaments();
+        }
+    }
+
     // ============================================
     // HEADER & SESSION MANAGEMENT
     // ============================================
@@ -242,7 +309,7 @@ public class MainController {
 
             if (connectionStatusLabel != null) {
                 try {
-                    connectionStatusLabel.setText(SupabaseConnection.getConnectionInfo());
+                    connectionStatusLabel.setText(DataSources.get().getName());
                 } catch (Exception e) {
                     System.err.println("⚠️ Could not get connection info: " + e.getMessage());
                     connectionStatusLabel.setText("❌ Connection Error");
@@ -299,11 +366,11 @@ public class MainController {
         connectionStatusLabel.setText("Testing connection...");
 
         new Thread(() -> {
-            boolean connected = SupabaseConnection.testConnection();
+            boolean connected = DataSources.get().testConnection();
 
             javafx.application.Platform.runLater(() -> {
                 if (connected) {
-                    connectionStatusLabel.setText("✅ " + SupabaseConnection.getConnectionInfo());
+                    connectionStatusLabel.setText("✅ " + DataSources.get().getName());
                     showToastSuccess("Connection successful!");
                 } else {
                     connectionStatusLabel.setText("❌ Connection Failed");
@@ -313,6 +380,81 @@ public class MainController {
         }).start();
     }
 
+    /**
+     * Per-DAO-method latency since startup: acquire, execute and mapping percentiles, with refresh, reset and save
+     */
+    @FXML
+    private void handleShowDiagnostics() {
+        Dialog<ButtonType> dialog = new Dialog<>();
+        dialog.setTitle("Diagnostics");
+        dialog.setHeaderText(DaoMetrics.isEnabled()
+                ? "DAO call latency (ms) on " + DataSources.get().getName()
+                : "DAO metrics are off (metrics.enabled=false)");
+        dialog.getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+
+        TableView<DaoMetrics.MethodSnapshot> table = new TableView<>();
+        table.setPrefSize(980, 420);
+        table.setPlaceholder(new Label("No DAO calls recorded yet"));
+        table.getColumns().add(metricColumn("Method", 220, DaoMetrics.MethodSnapshot::method));
+        table.getColumns().add(metricColumn("Calls", 60, s -> String.valueOf(s.calls())));
+        table.getColumns().add(metricColumn("Rows/call", 70, s -> String.format("%.1f", s.rowsPerCall())));
+        table.getColumns().add(metricColumn("Acquire p50/p99", 120, s -> percentiles(s.acquire())));
+        table.getColumns().add(metricColumn("Execute p50/p99", 120, s -> percentiles(s.execute())));
+        table.getColumns().add(metricColumn("Mapping p50/p99", 120, s -> percentiles(s.mapping())));
+        table.getColumns().add(metricColumn("Total p50/p99", 120, s -> percentiles(s.total())));
+        table.getColumns().add(metricColumn("Max", 70,
+                s -> String.format("%.2f", DaoMetrics.millis(s.total().max()))));
+
+        // Connection pool and prepared-statement cache hit rate
+        Label poolStats = new Label();
+        poolStats.setWrapText(true);
+        poolStats.setMaxWidth(980);
+        Runnable refresh = () -> {
+            table.getItems().setAll(DaoMetrics.snapshot());
+            poolStats.setText(DataSources.get().getStats());
+        };
+        Button refreshButton = new Button("🔄 Refresh");
+        refreshButton.setOnAction(e -> refresh.run());
+        Button resetButton = new Button("Reset");
+        resetButton.setOnAction(e -> {
+            DaoMetrics.reset();
+            refresh.run();
+        });
+        Button saveButton = new Button("💾 Save to file");
+        saveButton.setOnAction(e -> {
+            try {
+                showToastSuccess("Saved " + DaoMetrics.dump().toAbsolutePath());
+            } catch (IOException ex) {
+                showToastError("Could not save metrics: " + ex.getMessage());
+            }
+        });
+
+        HBox buttons = new HBox(10, refreshButton, resetButton, saveButton);
+        GridPane grid = new GridPane();
+        grid.setVgap(10);
+        grid.setPadding(new Insets(10));
+        grid.add(table, 0, 0);
+        grid.add(poolStats, 0, 1);
+        grid.add(buttons, 0, 2);
+        dialog.getDialogPane().setContent(grid);
+
+        refresh.run();
+        dialog.show();
+    }
+
+    private static TableColumn<DaoMetrics.MethodSnapshot, String> metricColumn(
+            String title, double width, Function<DaoMetrics.MethodSnapshot, String> value) {
+        TableColumn<DaoMetrics.MethodSnapshot, String> column = new TableColumn<>(title);
+        column.setPrefWidth(width);
+        column.setCellValueFactory(cell -> new SimpleStringProperty(value.apply(cell.getValue())));
+        return column;
+    }
+
+    private static String percentiles(LatencyHistogram.Snapshot snapshot) {
+        return String.format("%.2f / %.2f", DaoMetrics.millis(snapshot.percentile(50)),
+                DaoMetrics.millis(snapshot.percentile(99)));
+    }
+
     // ============================================
     // ROLE-BASED ACCESS CONTROL
     // ============================================
@@ -349,55 +491,67 @@ public class MainController {
     // ============================================
 
     private void setupSearchFilters() {
-        if (sportSearchField != null) {
-            sportSearchField.textProperty().addListener((observable, oldValue, newValue) -> {
-                if (filteredSports != null) {
-                    filteredSports.setPredicate(sport -> {
-                        if (newValue == null || newValue.isEmpty()) return true;
-                        return sport.getName().toLowerCase().contains(newValue.toLowerCase()) ||
-                                sport.getScoringType().toLowerCase().contains(newValue.toLowerCase());
-                    });
-                }
-            });
-        }
-
-        if (teamSearchField != null) {
-            teamSearchField.textProperty().addListener((observable, oldValue, newValue) -> {
-                if (filteredTeams != null) {
-                    filteredTeams.setPredicate(team -> {
-                        if (newValue == null || newValue.isEmpty()) return true;
-                        return team.getName().toLowerCase().contains(newValue.toLowerCase()) ||
-                                team.getCoach().toLowerCase().contains(newValue.toLowerCase());
-                    });
-                }
-            });
+        sportSearch = new SearchFilter<>("Sports", sportSearchField,
+                List.of(Sport::getName, Sport::getScoringType));
+        teamSearch = new SearchFilter<>("Teams", teamSearchField,
+                List.of(Team::getName, Team::getCoach));
+        matchSearch = new SearchFilter<>("Matches", matchSearchField,
+                List.of(Match::getTeam1Name, Match::getTeam2Name, Match::getLocation));
+        tournamentSearch = new SearchFilter<>("Tournaments", tournamentSearchField,
+                List.of(Tournament::getName, Tournament::getSportName, Tournament::getStatus));
+
+        // Typing filters the loaded rows; Enter searches everything on the server
+        for (TextField field : new TextField[]{teamSearchField, matchSearchField, tournamentSearchField}) {
+            field.setOnAction(e -> showSearchResults(field.getText()));
         }
+    }
 
-        if (matchSearchField != null) {
-            matchSearchField.textProperty().addListener((observable, oldValue, newValue) -> {
-                if (filteredMatches != null) {
-                    filteredMatches.setPredicate(match -> {
-                        if (newValue == null || newValue.isEmpty()) return true;
-                        return match.getTeam1Name().toLowerCase().contains(newValue.toLowerCase()) ||
-                                match.getTeam2Name().toLowerCase().contains(newValue.toLowerCase()) ||
-                                match.getLocation().toLowerCase().contains(newValue.toLowerCase());
-                    });
-                }
-            });
+    /**
+     * Ranked results across teams, matches and tournaments of the selected sport, a page at a time
+     */
+    private void showSearchResults(String query) {
+        if (query == null || query.isBlank()) {
+            return;
         }
-
-        if (tournamentSearchField != null) {
-            tournamentSearchField.textProperty().addListener((observable, oldValue, newValue) -> {
-                if (filteredTournaments != null) {
-                    filteredTournaments.setPredicate(tournament -> {
-                        if (newValue == null || newValue.isEmpty()) return true;
-                        return tournament.getName().toLowerCase().contains(newValue.toLowerCase()) ||
-                                tournament.getSportName().toLowerCase().contains(newValue.toLowerCase()) ||
-                                tournament.getStatus().toLowerCase().contains(newValue.toLowerCase());
-                    });
+        int sportId = selectedSport != null ? selectedSport.getId() : 0;
+
+        Dialog<ButtonType> dialog = new Dialog<>();
+        dialog.setTitle("Search");
+        dialog.setHeaderText("Results for: " + query.trim());
+        dialog.getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+
+        ListView<SearchDAO.SearchHit> results = new ListView<>();
+        results.setPrefSize(520, 360);
+        results.setPlaceholder(new Label("Searching..."));
+        Button moreButton = new Button("Load more");
+        moreButton.setDisable(true);
+        int[] page = {0};
+
+        Runnable loadPage = () -> {
+            moreButton.setDisable(true);
+            asyncDAO.search(query, sportId, page[0], searchPageSize).whenComplete((hits, error) -> Platform.runLater(() -> {
+                if (error != null) {
+                    results.setPlaceholder(new Label("Search failed"));
+                    showToastError("Search failed: " + AsyncDAO.rootCause(error).getMessage());
+                    return;
                 }
-            });
-        }
+                results.getItems().addAll(hits);
+                results.setPlaceholder(new Label("No matches"));
+                page[0]++;
+                moreButton.setDisable(hits.size() < searchPageSize);
+            }));
+        };
+        moreButton.setOnAction(e -> loadPage.run());
+
+        GridPane grid = new GridPane();
+        grid.setVgap(10);
+        grid.setPadding(new Insets(10));
+        grid.add(results, 0, 0);
+        grid.add(moreButton, 0, 1);
+        dialog.getDialogPane().setContent(grid);
+
+        loadPage.run();
+        dialog.show();
     }
 
     @FXML
@@ -406,29 +560,84 @@ public class MainController {
         if (sport != null) {
             selectedSport = sport;
 
-            // Update all sport-dependent data
-            loadTeamsForSport(sport.getId());
-            loadTeamsForMatchCombos(sport.getId());
-            loadMatchesForSport(sport.getId());
-            loadStandings(sport.getId());
+            // Update all sport-dependent data in one concurrent batch
+            loadSportData(sport.getId());
 
-            // Sync all other sport combos
-            if (teamSportCombo != null) {
-                teamSportCombo.setValue(sport);
+            // Sync all other sport combos without re-triggering their loads
+            syncingSportCombos = true;
+            try {
+                if (teamSportCombo != null) {
+                    teamSportCombo.setValue(sport);
+                }
+                if (matchSportCombo != null) {
+                    matchSportCombo.setValue(sport);
+                }
+                if (standingsSportCombo != null) {
+                    standingsSportCombo.setValue(sport);
+                }
+                if (tournamentSportCombo != null) {
+                    tournamentSportCombo.setValue(sport);
+                }
+                if (tournamentSportCombo2 != null) {
+                    tournamentSportCombo2.setValue(sport);
+                }
+            } finally {
+                syncingSportCombos = false;
             }
-            if (matchSportCombo != null) {
-                matchSportCombo.setValue(sport);
+        }
+    }
+
+    /**
+     * Fetch teams and matches for a sport concurrently and apply them in one UI pulse.
+     * The single team list feeds the teams table, the match combos and the standings.
+     */
+    private void loadSportData(int sportId) {
+        System.out.println("📊 Loading all data for sport ID: " + sportId);
+        long start = System.nanoTime();
+
+        CompletableFuture<ObservableList<Team>> teams = asyncDAO.getTeamsBySport(sportId);
+        CompletableFuture<ObservableList<Match>> matches = asyncDAO.getMatchesPage(sportId, null, matchPageSize);
+        CompletableFuture<Void> batch = CompletableFuture.allOf(teams, matches);
+
+        // The batch claims its tables, replacing per-table loads still in flight; a per-table load
+        // started after it takes its table back, and the batch then leaves that table alone
+        for (String key : SPORT_DATA_TABLES) {
+            CompletableFuture<?> stale = pendingLoads.put(key, batch);
+            if (stale != null) {
+                stale.cancel(false);
             }
-            if (standingsSportCombo != null) {
-                standingsSportCombo.setValue(sport);
+        }
+
+        loadAsync("sportData", batch, ignored -> {
+            long fetchedMs = (System.nanoTime() - start) / 1_000_000;
+            ObservableList<Team> teamList = teams.join();
+
+            if (pendingLoads.get("teams") == batch) {
+                applyTeams(teamList);
             }
-            if (tournamentSportCombo != null) {
-                tournamentSportCombo.setValue(sport);
+            if (pendingLoads.get("teamCombos") == batch) {
+                applyTeamCombos(teamList);
             }
-            if (tournamentSportCombo2 != null) {
-                tournamentSportCombo2.setValue(sport);
+            if (pendingLoads.get("matches") == batch) {
+                applyMatches(sportId, matches.join());
             }
-        }
+            if (pendingLoads.get("standings") == batch) {
+                applyStandings(sportId, teamList);
+            }
+
+            long renderedMs = (System.nanoTime() - start) / 1_000_000;
+            sportSwitchCount++;
+            sportSwitchTotalMs += renderedMs;
+            System.out.println("⏱️ Sport switch: fetched in " + fetchedMs + " ms, rendered in " + renderedMs +
+                    " ms (avg " + (sportSwitchTotalMs / sportSwitchCount) + " ms over " + sportSwitchCount + ")");
+        }, "Failed to load sport data: ", teamsTable, matchesTable, standingsTable);
+
+        // Runs after the apply above (or its error handling) and releases whatever the batch still holds
+        batch.whenComplete((ignored, error) -> Platform.runLater(() -> {
+            for (String key : SPORT_DATA_TABLES) {
+                pendingLoads.remove(key, batch);
+            }
+        }));
     }
     // ============================================
     // SPORTS TAB METHODS
@@ -541,7 +750,7 @@ public class MainController {
         try {
             System.out.println("📊 Loading sports from database...");
             ObservableList<Sport> sports = sportDAO.getAllSports();
-            filteredSports = new FilteredList<>(sports, p -> true);
+            filteredSports = sportSearch.attach(sports);
             SortedList<Sport> sortedSports = new SortedList<>(filteredSports);
             sortedSports.comparatorProperty().bind(sportsTable.comparatorProperty());
             sportsTable.setItems(sortedSports);
@@ -584,10 +793,7 @@ public class MainController {
                 matchSportCombo.setValue(selectedSport);
                 standingsSportCombo.setValue(selectedSport);
 
-                loadTeamsForSport(selectedSport.getId());
-                loadTeamsForMatchCombos(selectedSport.getId());
-                loadMatchesForSport(selectedSport.getId());
-                loadStandings(selectedSport.getId());
+                loadSportData(selectedSport.getId());
             }
         } catch (Exception e) {
             showToastError("Failed to update sport filters: " + e.getMessage());
@@ -616,7 +822,7 @@ public class MainController {
         goalsAgainstCol.setCellValueFactory(new PropertyValueFactory<>("goalsAgainst"));
 
         goalDiffCol.setCellValueFactory(cellData ->
-                new javafx.beans.property.SimpleIntegerProperty(cellData.getValue().getGoalDifference()).asObject()
+                goalDifferenceBinding(cellData.getValue())
         );
 
         teamsTable.setOnMouseClicked(event -> {
@@ -721,6 +927,7 @@ public class MainController {
 
     @FXML
     private void handleSportFilterTeams() {
+        if (syncingSportCombos) return;
         Sport sport = teamSportCombo.getValue();
         if (sport != null) {
             selectedSport = sport;
@@ -739,34 +946,37 @@ public class MainController {
     }
 
     private void loadTeamsForSport(int sportId) {
-        try {
-            System.out.println("📊 Loading teams for sport ID: " + sportId);
-            ObservableList<Team> teams = teamDAO.getTeamsBySport(sportId);
-            filteredTeams = new FilteredList<>(teams, p -> true);
-            SortedList<Team> sortedTeams = new SortedList<>(filteredTeams);
-            sortedTeams.comparatorProperty().bind(teamsTable.comparatorProperty());
-            teamsTable.setItems(sortedTeams);
-            System.out.println("✅ Loaded " + teams.size() + " teams");
-        } catch (Exception e) {
-            showToastError("Failed to load teams: " + e.getMessage());
-            e.printStackTrace();
-        }
+        System.out.println("📊 Loading teams for sport ID: " + sportId);
+        loadAsync("teams", teamsTable, asyncDAO.getTeamsBySport(sportId),
+                this::applyTeams, "Failed to load teams: ");
+    }
+
+    private void applyTeams(ObservableList<Team> teams) {
+        filteredTeams = teamSearch.attach(teams);
+        SortedList<Team> sortedTeams = new SortedList<>(filteredTeams);
+        sortedTeams.comparatorProperty().bind(teamsTable.comparatorProperty());
+        teamsTable.setItems(sortedTeams);
+        System.out.println("✅ Loaded " + teams.size() + " teams");
     }
 
     private void loadTeamsForMatchCombos(int sportId) {
-        try {
-            ObservableList<Team> teams = teamDAO.getTeamsBySport(sportId);
-            team1Combo.setItems(teams);
-            team2Combo.setItems(teams);
-            if (tournamentWinnerCombo != null) {
-                tournamentWinnerCombo.setItems(teams);
-            }
-        } catch (Exception e) {
-            showToastError("Failed to load teams for matches: " + e.getMessage());
-            e.printStackTrace();
+        loadAsync("teamCombos", null, asyncDAO.getTeamsBySport(sportId),
+                this::applyTeamCombos, "Failed to load teams for matches: ");
+    }
+
+    private void applyTeamCombos(ObservableList<Team> teams) {
+        team1Combo.setItems(teams);
+        team2Combo.setItems(teams);
+        if (tournamentWinnerCombo != null) {
+            tournamentWinnerCombo.setItems(teams);
         }
     }
 
+    private ObservableValue<Integer> goalDifferenceBinding(Team team) {
+        return Bindings.createObjectBinding(team::getGoalDifference,
+                team.goalsForProperty(), team.goalsAgainstProperty());
+    }
+
     private void clearTeamFields() {
         teamNameField.clear();
         coachField.clear();
@@ -777,17 +987,16 @@ public class MainController {
     // ============================================
 
     private void setupStandingsTable() {
-        positionCol.setCellValueFactory(cellData -> {
-            int index = standingsTable.getItems().indexOf(cellData.getValue()) + 1;
-            return new javafx.beans.property.SimpleIntegerProperty(index).asObject();
-        });
+        // Rank is carried by the row (maintained by StandingsEngine), so no per-cell indexOf scan
+        positionCol.setCellValueFactory(new PropertyValueFactory<>("rank"));
 
         standTeamNameCol.setCellValueFactory(new PropertyValueFactory<>("name"));
 
         playedCol.setCellValueFactory(cellData -> {
             Team team = cellData.getValue();
-            int played = team.getWins() + team.getDraws() + team.getLosses();
-            return new javafx.beans.property.SimpleIntegerProperty(played).asObject();
+            return Bindings.createObjectBinding(
+                    () -> team.getWins() + team.getDraws() + team.getLosses(),
+                    team.winsProperty(), team.drawsProperty(), team.lossesProperty());
         });
 
         standWinsCol.setCellValueFactory(new PropertyValueFactory<>("wins"));
@@ -797,7 +1006,7 @@ public class MainController {
         standGoalsAgainstCol.setCellValueFactory(new PropertyValueFactory<>("goalsAgainst"));
 
         standGoalDiffCol.setCellValueFactory(cellData ->
-                new javafx.beans.property.SimpleIntegerProperty(cellData.getValue().getGoalDifference()).asObject()
+                goalDifferenceBinding(cellData.getValue())
         );
 
         standPointsCol.setCellValueFactory(new PropertyValueFactory<>("points"));
@@ -809,7 +1018,7 @@ public class MainController {
                 if (empty || team == null) {
                     setStyle("");
                 } else {
-                    int index = getIndex() + 1;
+                    int index = team.getRank();
                     if (index == 1) {
                         setStyle("-fx-background-color: rgba(255, 215, 0, 0.2);");
                     } else if (index == 2) {
@@ -826,6 +1035,7 @@ public class MainController {
 
     @FXML
     private void handleLoadStandings() {
+        if (syncingSportCombos) return;
         Sport sport = standingsSportCombo.getValue();
         if (sport != null) {
             loadStandings(sport.getId());
@@ -835,25 +1045,47 @@ public class MainController {
     }
 
     private void loadStandings(int sportId) {
-        try {
-            System.out.println("📊 Loading standings for sport ID: " + sportId);
-            ObservableList<Team> teams = teamDAO.getStandingsBySport(sportId);
-            standingsTable.setItems(teams);
-
-            if (statsLabel != null && !teams.isEmpty()) {
-                int totalTeams = teams.size();
-                int totalMatches = teams.stream().mapToInt(t -> t.getWins() + t.getDraws() + t.getLosses()).sum() / 2;
-                int totalGoals = teams.stream().mapToInt(Team::getGoalsFor).sum();
-
-                statsLabel.setText(String.format(
-                        "📊 Stats: %d Teams | %d Matches Played | %d Total Goals",
-                        totalTeams, totalMatches, totalGoals
-                ));
+        System.out.println("📊 Loading standings for sport ID: " + sportId);
+        loadAsync("standings", standingsTable, asyncDAO.getStandingsBySport(sportId),
+                teams -> applyStandings(sportId, teams), "Failed to load standings: ");
+    }
+
+    private void applyStandings(int sportId, ObservableList<Team> teams) {
+        StandingsEngine engine = StandingsEngine.forSport(sportId);
+        engine.load(teams);
+
+        // Column sorting reorders this view only; the engine keeps standings order and ranks
+        SortedList<Team> sortedStandings = new SortedList<>(engine.getRows());
+        sortedStandings.comparatorProperty().bind(standingsTable.comparatorProperty());
+        standingsTable.setItems(sortedStandings);
+        updateStandingsStats(engine);
+        System.out.println("✅ Loaded standings for " + teams.size() + " teams");
+    }
+
+    private void updateStandingsStats(StandingsEngine engine) {
+        if (statsLabel != null && engine.getTeamCount() > 0) {
+            statsLabel.setText(String.format(
+                    "📊 Stats: %d Teams | %d Matches Played | %d Total Goals",
+                    engine.getTeamCount(), engine.getTotalMatches(), engine.getTotalGoals()
+            ));
+        }
+    }
+
+    /**
+     * Copy updated stats onto the teams table row when it holds a different instance
+     */
+    private void syncTeamRow(Team updated) {
+        if (updated == null || filteredTeams == null) return;
+        for (Team team : filteredTeams.getSource()) {
+            if (team != updated && team.getId() == updated.getId()) {
+                team.setWins(updated.getWins());
+                team.setDraws(updated.getDraws());
+                team.setLosses(updated.getLosses());
+                team.setPoints(updated.getPoints());
+                team.setGoalsFor(updated.getGoalsFor());
+                team.setGoalsAgainst(updated.getGoalsAgainst());
+                return;
             }
-            System.out.println("✅ Loaded standings for " + teams.size() + " teams");
-        } catch (Exception e) {
-            showToastError("Failed to load standings: " + e.getMessage());
-            e.printStackTrace();
         }
     }
 
@@ -871,6 +1103,8 @@ public class MainController {
         score2Col.setCellValueFactory(new PropertyValueFactory<>("team2Score"));
         statusCol.setCellValueFactory(new PropertyValueFactory<>("status"));
 
+        installMatchPaging();
+
         matchesTable.setOnMouseClicked(event -> {
             if (event.getClickCount() == 2 && session.canModifyData()) {
                 Match selected = matchesTable.getSelectionModel().getSelectedItem();
@@ -981,28 +1215,46 @@ public class MainController {
                 return;
             }
 
-            matchDAO.updateMatchResult(selected.getId(), score1, score2);
-
-            if (score1 > score2) {
-                teamDAO.updateMatchResult(selected.getTeam1Name(), true, false, score1, score2);
-                teamDAO.updateMatchResult(selected.getTeam2Name(), false, false, score2, score1);
-            } else if (score2 > score1) {
-                teamDAO.updateMatchResult(selected.getTeam2Name(), true, false, score2, score1);
-                teamDAO.updateMatchResult(selected.getTeam1Name(), false, false, score1, score2);
-            } else {
-                teamDAO.updateMatchResult(selected.getTeam1Name(), false, true, score1, score2);
-                teamDAO.updateMatchResult(selected.getTeam2Name(), false, true, score2, score1);
-            }
-
-            Sport sport = matchSportCombo.getValue();
-            if (sport != null) {
-                loadMatchesForSport(sport.getId());
-                loadTeamsForSport(sport.getId());
-                loadStandings(sport.getId());
-            }
-
-            clearMatchFields();
-            showToastSuccess("Match result updated! Standings have been refreshed.");
+            int matchId = selected.getId();
+            boolean wasCompleted = "Completed".equals(selected.getStatus());
+            int oldScore1 = selected.getTeam1Score();
+            int oldScore2 = selected.getTeam2Score();
+            updateResultButton.setDisable(true);
+
+            CompletableFuture<Boolean> recording = AsyncDAO.supply(() -> matchDAO.recordMatchResult(matchId, score1, score2))
+                    .whenComplete((recorded, error) -> Platform.runLater(() -> updateResultButton.setDisable(false)));
+
+            loadAsync("recordResult", recording,
+                    recorded -> {
+                        if (!recorded) {
+                            showToastInfo("This result was already recorded.");
+                            return;
+                        }
+
+                        selected.setTeam1Score(score1);
+                        selected.setTeam2Score(score2);
+                        selected.setStatus("Completed");
+
+                        // Apply the delta in memory instead of re-querying teams and standings
+                        StandingsEngine engine = StandingsEngine.forSport(selected.getSportId());
+                        Team team1 = engine.getTeam(selected.getTeam1Name());
+                        Team team2 = engine.getTeam(selected.getTeam2Name());
+                        if (team1 != null && team2 != null) {
+                            if (wasCompleted) {
+                                engine.reverseResult(selected.getTeam1Name(), selected.getTeam2Name(), oldScore1, oldScore2);
+                            }
+                            engine.applyResult(selected.getTeam1Name(), selected.getTeam2Name(), score1, score2);
+                            syncTeamRow(team1);
+                            syncTeamRow(team2);
+                            updateStandingsStats(engine);
+                        } else {
+                            loadTeamsForSport(selected.getSportId());
+                            loadStandings(selected.getSportId());
+                        }
+
+                        clearMatchFields();
+                        showToastSuccess("Match result updated! Standings have been refreshed.");
+                    }, "Failed to update result: ");
         } catch (NumberFormatException e) {
             showToastWarning("Please enter valid numeric scores!");
             score1Field.requestFocus();
@@ -1053,6 +1305,7 @@ public class MainController {
 
     @FXML
     private void handleSportFilterMatches() {
+        if (syncingSportCombos) return;
         Sport sport = matchSportCombo.getValue();
         if (sport != null) {
             selectedSport = sport;
@@ -1062,18 +1315,113 @@ public class MainController {
     }
 
     private void loadMatchesForSport(int sportId) {
-        try {
-            System.out.println("📊 Loading matches for sport ID: " + sportId);
-            ObservableList<Match> matches = matchDAO.getMatchesBySport(sportId);
-            filteredMatches = new FilteredList<>(matches, p -> true);
-            SortedList<Match> sortedMatches = new SortedList<>(filteredMatches);
-            sortedMatches.comparatorProperty().bind(matchesTable.comparatorProperty());
-            matchesTable.setItems(sortedMatches);
-            System.out.println("✅ Loaded " + matches.size() + " matches");
-        } catch (Exception e) {
-            showToastError("Failed to load matches: " + e.getMessage());
-            e.printStackTrace();
+        System.out.println("📊 Loading matches for sport ID: " + sportId);
+        loadAsync("matches", matchesTable, asyncDAO.getMatchesPage(sportId, null, matchPageSize),
+                page -> applyMatches(sportId, page), "Failed to load matches: ");
+    }
+
+    /**
+     * Start a fresh match window from the newest page
+     */
+    private void applyMatches(int sportId, ObservableList<Match> firstPage) {
+        matchWindow = firstPage;
+        matchWindowSportId = sportId;
+        hasOlderMatches = firstPage.size() == matchPageSize;
+        hasNewerMatches = false;
+        matchPageLoading = false;
+        pendingLoads.remove("matchPage");
+
+        filteredMatches = matchSearch.attach(matchWindow);
+        SortedList<Match> sortedMatches = new SortedList<>(filteredMatches);
+        sortedMatches.comparatorProperty().bind(matchesTable.comparatorProperty());
+        matchesTable.setItems(sortedMatches);
+        System.out.println("✅ Loaded " + firstPage.size() + " matches" + (hasOlderMatches ? " (more on scroll)" : ""));
+    }
+
+    /**
+     * Hook the matches table scroll bar once the skin exists
+     */
+    private void installMatchPaging() {
+        matchesTable.skinProperty().addListener((obs, oldSkin, newSkin) -> Platform.runLater(() -> {
+            for (Node node : matchesTable.lookupAll(".scroll-bar")) {
+                if (node instanceof ScrollBar bar && bar.getOrientation() == Orientation.VERTICAL) {
+                    bar.valueProperty().addListener((o, oldValue, newValue) -> {
+                        double range = bar.getMax() - bar.getMin();
+                        if (range <= 0) return;
+                        double position = (newValue.doubleValue() - bar.getMin()) / range;
+                        if (position >= 0.95) {
+                            loadOlderMatches();
+                        } else if (position <= 0.05) {
+                            loadNewerMatches();
+                        }
+                    });
+                }
+            }
+        }));
+    }
+
+    private void loadOlderMatches() {
+        if (matchPageLoading || !hasOlderMatches || matchWindow == null || matchWindow.isEmpty()) return;
+        matchPageLoading = true;
+        ObservableList<Match> window = matchWindow;
+        Match last = window.get(window.size() - 1);
+
+        CompletableFuture<ObservableList<Match>> future = asyncDAO.getMatchesPage(matchWindowSportId, last, matchPageSize);
+        future.whenComplete((page, error) -> {
+            if (error != null) Platform.runLater(() -> matchPageLoading = false);
+        });
+
+        loadAsync("matchPage", future, page -> {
+            matchPageLoading = false;
+            if (window != matchWindow) return;
+
+            hasOlderMatches = page.size() == matchPageSize;
+            window.addAll(page);
+
+            // Keep memory bounded: drop the newest rows once the window is full
+            int excess = window.size() - matchPageSize * matchMaxPages;
+            if (excess > 0) {
+                int firstVisible = firstVisibleMatchIndex();
+                window.remove(0, excess);
+                hasNewerMatches = true;
+                matchesTable.scrollTo(Math.max(0, firstVisible - excess));
+            }
+        }, "Failed to load more matches: ");
+    }
+
+    private void loadNewerMatches() {
+        if (matchPageLoading || !hasNewerMatches || matchWindow == null || matchWindow.isEmpty()) return;
+        matchPageLoading = true;
+        ObservableList<Match> window = matchWindow;
+        Match first = window.get(0);
+
+        CompletableFuture<ObservableList<Match>> future = asyncDAO.getMatchesPageBefore(matchWindowSportId, first, matchPageSize);
+        future.whenComplete((page, error) -> {
+            if (error != null) Platform.runLater(() -> matchPageLoading = false);
+        });
+
+        loadAsync("matchPage", future, page -> {
+            matchPageLoading = false;
+            if (window != matchWindow) return;
+
+            hasNewerMatches = page.size() == matchPageSize;
+            int firstVisible = firstVisibleMatchIndex();
+            window.addAll(0, page);
+
+            int excess = window.size() - matchPageSize * matchMaxPages;
+            if (excess > 0) {
+                window.remove(window.size() - excess, window.size());
+                hasOlderMatches = true;
+            }
+            matchesTable.scrollTo(firstVisible + page.size());
+        }, "Failed to load more matches: ");
+    }
+
+    private int firstVisibleMatchIndex() {
+        if (matchesTable.lookup(".virtual-flow") instanceof VirtualFlow<?> flow && flow.getFirstVisibleCell() != null) {
+            return flow.getFirstVisibleCell().getIndex();
         }
+        return 0;
     }
 
     private void clearMatchFields() {
@@ -1314,20 +1662,20 @@ public class MainController {
     private void handleTournamentSportFilter() {
         Sport sport = tournamentSportCombo.getValue();
         if (sport != null) {
-            try {
-                ObservableList<Tournament> tournaments = tournamentDAO.getTournamentsBySport(sport.getId());
-                filteredTournaments = new FilteredList<>(tournaments, p -> true);
-                tournamentsTable.setItems(filteredTournaments);
-
-                // Load teams for winner selection
-                ObservableList<Team> teams = teamDAO.getTeamsBySport(sport.getId());
-                if (tournamentWinnerCombo != null) {
-                    tournamentWinnerCombo.setItems(teams);
-                }
-            } catch (Exception e) {
-                showToastError("Failed to load tournaments: " + e.getMessage());
-                e.printStackTrace();
-            }
+            loadAsync("tournaments", tournamentsTable, asyncDAO.getTournamentsBySport(sport.getId()),
+                    tournaments -> {
+                        filteredTournaments = tournamentSearch.attach(tournaments);
+                        tournamentsTable.setItems(filteredTournaments);
+                    }, "Failed to load tournaments: ");
+
+            // Load teams for winner selection (the sport batch already covers a global switch)
+            if (syncingSportCombos) return;
+            loadAsync("winnerCombo", null, asyncDAO.getTeamsBySport(sport.getId()),
+                    teams -> {
+                        if (tournamentWinnerCombo != null) {
+                            tournamentWinnerCombo.setItems(teams);
+                        }
+                    }, "Failed to load teams: ");
         }
     }
 
@@ -1360,10 +1708,13 @@ public class MainController {
             // Available teams list
             ListView<Team> availableTeams = new ListView<>();
             ListView<Team> selectedTeams = new ListView<>();
+            availableTeams.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+            selectedTeams.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
 
             // Load teams
+            long loadStart = System.nanoTime();
             ObservableList<Team> allTeams = teamDAO.getTeamsBySport(selected.getSportId());
-            ObservableList<Integer> tournamentTeamIds = tournamentDAO.getTournamentTeamIds(selected.getId());
+            IntSet tournamentTeamIds = tournamentDAO.getTournamentTeamIds(selected.getId());
 
             ObservableList<Team> available = FXCollections.observableArrayList();
             ObservableList<Team> inTournament = FXCollections.observableArrayList();
@@ -1375,40 +1726,29 @@ public class MainController {
                     available.add(team);
                 }
             }
+            System.out.println("📋 Roster for " + selected.getName() + ": " + inTournament.size() + "/" + allTeams.size()
+                    + " teams loaded in " + (System.nanoTime() - loadStart) / 1_000_000 + " ms");
 
             availableTeams.setItems(available);
             selectedTeams.setItems(inTournament);
 
+            // Changes are staged here and saved together when the dialog closes
+            IntSet added = new IntSet();
+            IntSet removed = new IntSet();
+            Label pendingLabel = new Label();
+
             // Buttons
             Button addButton = new Button("Add →");
             Button removeButton = new Button("← Remove");
 
             addButton.setOnAction(e -> {
-                Team team = availableTeams.getSelectionModel().getSelectedItem();
-                if (team != null) {
-                    try {
-                        tournamentDAO.addTeamToTournament(selected.getId(), team.getId());
-                        available.remove(team);
-                        inTournament.add(team);
-                        showToastSuccess("Team added to tournament!");
-                    } catch (Exception ex) {
-                        showToastError("Failed to add team: " + ex.getMessage());
-                    }
-                }
+                moveTeams(availableTeams, inTournament, added, removed);
+                updatePendingLabel(pendingLabel, added, removed);
             });
 
             removeButton.setOnAction(e -> {
-                Team team = selectedTeams.getSelectionModel().getSelectedItem();
-                if (team != null) {
-                    try {
-                        tournamentDAO.removeTeamFromTournament(selected.getId(), team.getId());
-                        inTournament.remove(team);
-                        available.add(team);
-                        showToastSuccess("Team removed from tournament!");
-                    } catch (Exception ex) {
-                        showToastError("Failed to remove team: " + ex.getMessage());
-                    }
-                }
+                moveTeams(selectedTeams, available, removed, added);
+                updatePendingLabel(pendingLabel, added, removed);
             });
 
             // Layout
@@ -1417,17 +1757,57 @@ public class MainController {
             grid.add(availableTeams, 0, 1);
             grid.add(new javafx.scene.layout.VBox(10, addButton, removeButton), 1, 1);
             grid.add(selectedTeams, 2, 1);
+            grid.add(pendingLabel, 0, 2, 3, 1);
 
             dialog.getDialogPane().setContent(grid);
             dialog.getDialogPane().getButtonTypes().addAll(ButtonType.CLOSE);
             dialog.showAndWait();
 
+            if (!added.isEmpty() || !removed.isEmpty()) {
+                int tournamentId = selected.getId();
+                AsyncDAO.supply(() -> {
+                    tournamentDAO.updateTournamentTeams(tournamentId, added, removed);
+                    return null;
+                }).whenComplete((ignored, error) -> Platform.runLater(() -> {
+                    if (error != null) {
+                        showToastError("Failed to update tournament teams: " + AsyncDAO.rootCause(error).getMessage());
+                    } else {
+                        showToastSuccess("Tournament teams updated (+" + added.size() + " / -" + removed.size() + ")");
+                    }
+                }));
+            }
+
         } catch (Exception e) {
             showToastError("Failed to manage teams: " + e.getMessage());
             e.printStackTrace();
         }
     }
 
+    /**
+     * Move the selected teams to the other list, staging the change; moving a team back cancels its staged change
+     */
+    private void moveTeams(ListView<Team> from, ObservableList<Team> to, IntSet stageAs, IntSet cancel) {
+        ObservableList<Team> picked = from.getSelectionModel().getSelectedItems();
+        if (picked.isEmpty()) {
+            return;
+        }
+        IntSet moved = new IntSet(picked.size());
+        for (Team team : picked) {
+            moved.add(team.getId());
+            if (!cancel.remove(team.getId())) {
+                stageAs.add(team.getId());
+            }
+        }
+        to.addAll(picked);
+        from.getSelectionModel().clearSelection();
+        from.getItems().removeIf(team -> moved.contains(team.getId()));
+    }
+
+    private void updatePendingLabel(Label label, IntSet added, IntSet removed) {
+        label.setText(added.isEmpty() && removed.isEmpty() ? ""
+                : "Pending: +" + added.size() + " / -" + removed.size() + " (saved when you close this dialog)");
+    }
+
     @FXML
     private void handleShowTournamentStats() {
         Tournament selected = tournamentsTable.getSelectionModel().getSelectedItem();
@@ -1436,51 +1816,73 @@ public class MainController {
             return;
         }
 
-        try {
-            String stats = tournamentDAO.getTournamentStats(selected.getId());
-
-            Alert alert = new Alert(Alert.AlertType.INFORMATION);
-            alert.setTitle("Tournament Statistics");
-            alert.setHeaderText(selected.getName());
-            alert.setContentText(
-                    "Status: " + selected.getStatus().toUpperCase() + "\n" +
-                            "Type: " + selected.getTournamentType() + "\n" +
-                            "Start Date: " + selected.getStartDate() + "\n" +
-                            "End Date: " + (selected.getEndDate() != null ? selected.getEndDate() : "TBD") + "\n" +
-                            "Prize Money: $" + String.format("%.2f", selected.getPrizeMoney()) + "\n\n" +
-                            stats
-            );
-            alert.showAndWait();
+        AsyncDAO.supply(() -> tournamentDAO.getTournamentStats(selected.getId()))
+                .whenComplete((stats, error) -> Platform.runLater(() -> {
+                    if (error != null) {
+                        showToastError("Failed to load statistics: " + AsyncDAO.rootCause(error).getMessage());
+                        error.printStackTrace();
+                        return;
+                    }
 
-        } catch (Exception e) {
-            showToastError("Failed to load statistics: " + e.getMessage());
-            e.printStackTrace();
+                    Alert alert = new Alert(Alert.AlertType.INFORMATION);
+                    alert.setTitle("Tournament Statistics");
+                    alert.setHeaderText(selected.getName());
+                    alert.setContentText(
+                            "Status: " + selected.getStatus().toUpperCase() + "\n" +
+                                    "Type: " + selected.getTournamentType() + "\n" +
+                                    "Start Date: " + selected.getStartDate() + "\n" +
+                                    "End Date: " + (selected.getEndDate() != null ? selected.getEndDate() : "TBD") + "\n" +
+                                    "Prize Money: $" + String.format("%.2f", selected.getPrizeMoney()) + "\n\n" +
+                                    formatTournamentStats(stats)
+                    );
+                    alert.showAndWait();
+                }));
+    }
+
+    private String formatTournamentStats(TournamentStats stats) {
+        StringBuilder text = new StringBuilder(stats.toString());
+        text.append(String.format("%nProgress: %d%% | Goals: %d (avg %.2f per match, best match %d)",
+                stats.getProgressPercent(), stats.getTotalGoals(), stats.getAverageGoalsPerMatch(),
+                stats.getHighestScoringMatch()));
+
+        TournamentStats.Round current = stats.getCurrentRound();
+        if (current != null) {
+            text.append(String.format("%nNext match day: %s (%d/%d played)",
+                    current.date(), current.completed(), current.matches()));
+        }
+
+        // Long tournaments list only the most recent match days
+        List<TournamentStats.Round> rounds = stats.getRounds();
+        if (!rounds.isEmpty()) {
+            text.append("\n\nMatch days:");
+            if (rounds.size() > 10) {
+                text.append(String.format("%n  (%d earlier match days)", rounds.size() - 10));
+            }
+            for (TournamentStats.Round round : rounds.subList(Math.max(0, rounds.size() - 10), rounds.size())) {
+                text.append(String.format("%n  %s  %d/%d played, %d goals",
+                        round.date(), round.completed(), round.matches(), round.goals()));
+            }
         }
+        return text.toString();
     }
 
     private void loadTournaments() {
-        try {
-            System.out.println("📊 Loading tournaments...");
-            ObservableList<Tournament> tournaments;
+        System.out.println("📊 Loading tournaments...");
 
-            // Admin sees all tournaments, others see only their own
-            if (session.isAdmin()) {
-                tournaments = tournamentDAO.getAllTournaments();
-                System.out.println("✅ Loaded ALL tournaments (Admin view)");
-            } else {
-                tournaments = tournamentDAO.getMyTournaments();
-                System.out.println("✅ Loaded MY tournaments (User view)");
-            }
+        // Admin sees all tournaments, others see only their own
+        boolean isAdmin = session.isAdmin();
+        CompletableFuture<ObservableList<Tournament>> future = isAdmin
+                ? asyncDAO.getAllTournaments()
+                : asyncDAO.getMyTournaments();
 
+        loadAsync("tournaments", tournamentsTable, future, tournaments -> {
+            System.out.println(isAdmin ? "✅ Loaded ALL tournaments (Admin view)" : "✅ Loaded MY tournaments (User view)");
             if (tournamentsTable != null) {
-                filteredTournaments = new FilteredList<>(tournaments, p -> true);
+                filteredTournaments = tournamentSearch.attach(tournaments);
                 tournamentsTable.setItems(filteredTournaments);
             }
             System.out.println("✅ Loaded " + tournaments.size() + " tournaments");
-        } catch (Exception e) {
-            System.err.println("❌ Failed to load tournaments: " + e.getMessage());
-            e.printStackTrace();
-        }
+        }, "Failed to load tournaments: ");
     }
 
     private void loadTournamentForEditing(Tournament tournament) {
@@ -1551,6 +1953,58 @@ public class MainController {
             e.printStackTrace();
         }
     }
+    // ============================================
+    // BACKGROUND LOADING
+    // ============================================
+
+    /**
+     * Run a query off the FX thread and apply the result with Platform.runLater.
+     * A newer load for the same key cancels the older one, so stale results are never shown.
+     */
+    private <T> void loadAsync(String key, TableView<?> table, CompletableFuture<T> future,
+                               Consumer<T> onSuccess, String errorPrefix) {
+        if (table == null) {
+            loadAsync(key, future, onSuccess, errorPrefix);
+        } else {
+            loadAsync(key, future, onSuccess, errorPrefix, table);
+        }
+    }
+
+    private <T> void loadAsync(String key, CompletableFuture<T> future, Consumer<T> onSuccess,
+                               String errorPrefix, TableView<?>... tables) {
+        CompletableFuture<?> previous = pendingLoads.put(key, future);
+        // Taking a table from the pending sport batch must not cancel the batch's other tables
+        if (previous != null && previous != pendingLoads.get("sportData")) {
+            previous.cancel(false);
+        }
+
+        for (TableView<?> table : tables) {
+            table.setPlaceholder(new Label("⏳ Loading..."));
+        }
+
+        future.whenComplete((result, error) -> Platform.runLater(() -> {
+            if (pendingLoads.get(key) != future) {
+                return; // superseded by a newer selection
+            }
+            pendingLoads.remove(key);
+
+            for (TableView<?> table : tables) {
+                table.setPlaceholder(null);
+            }
+
+            if (error != null) {
+                Throwable cause = AsyncDAO.rootCause(error);
+                if (!(cause instanceof CancellationException)) {
+                    showToastError(errorPrefix + cause.getMessage());
+                    cause.printStackTrace();
+                }
+                return;
+            }
+
+            onSuccess.accept(result);
+        }));
+    }
+
     // ============================================
     // TOAST NOTIFICATION METHODS
     // ============================================
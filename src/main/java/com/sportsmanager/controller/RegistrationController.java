@@ -1,6 +1,7 @@
 package com.sportsmanager.controller;
 
-import com.sportsmanager.dao.SupabaseConnection;
+import com.sportsmanager.dao.DataSources;
+import com.sportsmanager.dao.SqlDialect;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -122,19 +123,20 @@ public class RegistrationController {
 
         // Direct insert approach (after dropping foreign key constraint)
         String sqlProfile = "INSERT INTO profiles (id, username, full_name, email, role, is_active, created_at, updated_at) " +
-                "VALUES (?::uuid, ?, ?, ?, ?, true, NOW(), NOW())";
+                "VALUES (?, ?, ?, ?, ?, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
 
         String sqlCredentials = "INSERT INTO user_credentials (user_id, password_hash, created_at, updated_at) " +
-                "VALUES (?::uuid, ?, NOW(), NOW())";
+                "VALUES (?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
 
         Connection conn = null;
         try {
-            conn = SupabaseConnection.getConnection();
+            SqlDialect dialect = DataSources.dialect();
+            conn = DataSources.getConnection();
             conn.setAutoCommit(false);
 
             // Insert profile
             try (PreparedStatement pstmt1 = conn.prepareStatement(sqlProfile)) {
-                pstmt1.setString(1, userId);
+                dialect.setUuid(pstmt1, 1, userId);
                 pstmt1.setString(2, username);
                 pstmt1.setString(3, fullName);
                 pstmt1.setString(4, email);
@@ -146,7 +148,7 @@ public class RegistrationController {
 
             // Insert credentials
             try (PreparedStatement pstmt2 = conn.prepareStatement(sqlCredentials)) {
-                pstmt2.setString(1, userId);
+                dialect.setUuid(pstmt2, 1, userId);
                 pstmt2.setString(2, hashedPassword);
 
                 int rowsAffected = pstmt2.executeUpdate();
@@ -181,7 +183,7 @@ public class RegistrationController {
     private boolean userExists(String username) throws SQLException {
         String sql = "SELECT COUNT(*) FROM profiles WHERE username = ?";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (Connection conn = DataSources.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, username);
@@ -198,7 +200,7 @@ public class RegistrationController {
     private boolean emailExists(String email) throws SQLException {
         String sql = "SELECT COUNT(*) FROM profiles WHERE email = ?";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (Connection conn = DataSources.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, email);
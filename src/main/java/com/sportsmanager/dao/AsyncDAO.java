@@ -0,0 +1,136 @@
+package com.sportsmanager.dao;
+
+import com.sportsmanager.model.Match;
+import com.sportsmanager.model.Sport;
+import com.sportsmanager.model.Team;
+import com.sportsmanager.model.Tournament;
+import com.sportsmanager.util.ConfigManager;
+import javafx.collections.ObservableList;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asynchronous facade over the DAOs
+ * Runs queries on a bounded background executor so the JavaFX thread never waits on SQL
+ */
+public class AsyncDAO {
+
+    /**
+     * A DAO call that may throw SQLException
+     */
+    @FunctionalInterface
+    public interface SqlSupplier<T> {
+        T get() throws SQLException;
+    }
+
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    private final SportDAO sportDAO = new SportDAO();
+    private final TeamDAO teamDAO = new TeamDAO();
+    private final MatchDAO matchDAO = new MatchDAO();
+    private final TournamentDAO tournamentDAO = new TournamentDAO();
+    private final SearchDAO searchDAO = new SearchDAO();
+
+    /**
+     * Worker count follows the connection pool size so queued queries wait here, not on the pool
+     */
+    private static ExecutorService createExecutor() {
+        ConfigManager config = ConfigManager.getInstance();
+        int threads = config.getInt("db.pool.max.size", 8);
+        int queueSize = config.getInt("db.async.queue.size", 100);
+
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "dao-async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), factory,
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Run any DAO call in the background
+     * A full queue fails the returned future instead of throwing, so callers' error handlers report it.
+     */
+    public static <T> CompletableFuture<T> supply(SqlSupplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return task.get();
+                } catch (SQLException e) {
+                    throw new CompletionException(e);
+                }
+            }, EXECUTOR);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("Too many database requests waiting, try again", e));
+        }
+    }
+
+    /**
+     * Unwrap CompletionException to the real failure
+     */
+    public static Throwable rootCause(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    public CompletableFuture<ObservableList<Sport>> getAllSports() {
+        return supply(sportDAO::getAllSports);
+    }
+
+    public CompletableFuture<ObservableList<Team>> getTeamsBySport(int sportId) {
+        return supply(() -> teamDAO.getTeamsBySport(sportId));
+    }
+
+    public CompletableFuture<ObservableList<Team>> getStandingsBySport(int sportId) {
+        return supply(() -> teamDAO.getStandingsBySport(sportId));
+    }
+
+    public CompletableFuture<ObservableList<Match>> getMatchesBySport(int sportId) {
+        return supply(() -> matchDAO.getMatchesBySport(sportId));
+    }
+
+    public CompletableFuture<ObservableList<Match>> getMatchesPage(int sportId, Match after, int pageSize) {
+        return supply(() -> matchDAO.getMatchesPage(sportId, after, pageSize));
+    }
+
+    public CompletableFuture<ObservableList<Match>> getMatchesPageBefore(int sportId, Match before, int pageSize) {
+        return supply(() -> matchDAO.getMatchesPageBefore(sportId, before, pageSize));
+    }
+
+    public CompletableFuture<ObservableList<Tournament>> getAllTournaments() {
+        return supply(tournamentDAO::getAllTournaments);
+    }
+
+    public CompletableFuture<ObservableList<Tournament>> getMyTournaments() {
+        return supply(tournamentDAO::getMyTournaments);
+    }
+
+    public CompletableFuture<ObservableList<Tournament>> getTournamentsBySport(int sportId) {
+        return supply(() -> tournamentDAO.getTournamentsBySport(sportId));
+    }
+
+    public CompletableFuture<List<SearchDAO.SearchHit>> search(String query, int sportId, int page, int pageSize) {
+        return supply(() -> searchDAO.search(query, sportId, page, pageSize));
+    }
+}
@@ -0,0 +1,270 @@
+package com.sportsmanager.dao;
+
+import com.sportsmanager.util.ConfigManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Asynchronous writer for the local audit_log table
+ * Callers enqueue events and return; one background thread writes them in batches, one transaction
+ * per flush, when a batch fills up or the flush interval passes. A full queue either waits briefly
+ * (audit.overflow.policy=block) or drops the event (drop). Pending events are written on shutdown.
+ */
+public class AuditLogWriter {
+    private static AuditLogWriter instance;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_log (action, table_name, record_id, details, timestamp) VALUES (?, ?, ?, ?, ?)";
+    // Same text format as CURRENT_TIMESTAMP, with milliseconds
+    private static final DateTimeFormatter TIMESTAMP_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneOffset.UTC);
+    private static final Object STOP = new Object();
+
+    /**
+     * What to do when the queue is full
+     */
+    public enum OverflowPolicy { BLOCK, DROP }
+
+    private record AuditEvent(String action, String tableName, int recordId, String details, Instant at) {
+    }
+
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long blockTimeoutMs;
+    private final long shutdownTimeoutMs;
+    private final OverflowPolicy policy;
+    private final BlockingQueue<Object> queue;
+
+    private Thread writer;
+    private volatile boolean stopped = false;
+
+    // Metrics
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder writeNanos = new LongAdder();
+
+    private AuditLogWriter() {
+        ConfigManager config = ConfigManager.getInstance();
+        this.queue = new ArrayBlockingQueue<>(Math.max(config.getInt("audit.queue.capacity", 1000), 1));
+        this.batchSize = Math.max(config.getInt("audit.batch.size", 100), 1);
+        this.flushIntervalMs = Math.max(config.getInt("audit.flush.interval.ms", 500), 1);
+        this.blockTimeoutMs = config.getInt("audit.block.timeout.ms", 250);
+        this.shutdownTimeoutMs = config.getInt("audit.shutdown.timeout.ms", 5000);
+        this.policy = "drop".equalsIgnoreCase(config.get("audit.overflow.policy", "block"))
+                ? OverflowPolicy.DROP : OverflowPolicy.BLOCK;
+    }
+
+    public static synchronized AuditLogWriter getInstance() {
+        if (instance == null) {
+            instance = new AuditLogWriter();
+        }
+        return instance;
+    }
+
+    /**
+     * Queue an audit event; returns false if it was dropped because the queue stayed full
+     */
+    public boolean submit(String action, String tableName, int recordId, String details) {
+        AuditEvent event = new AuditEvent(action, tableName, recordId, details, Instant.now());
+
+        if (!ensureStarted()) {
+            // After shutdown there is no writer thread, so write in the caller's thread
+            writeBatch(List.of(event));
+            return true;
+        }
+
+        boolean accepted;
+        if (policy == OverflowPolicy.DROP) {
+            accepted = queue.offer(event);
+        } else {
+            try {
+                accepted = queue.offer(event, blockTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                accepted = false;
+            }
+        }
+
+        if (accepted) {
+            enqueued.increment();
+        } else {
+            dropped.increment();
+            // Report the first drop and then every 100th so a flood doesn't flood the console too
+            if (dropped.sum() % 100 == 1) {
+                System.err.println("⚠️ Audit queue full, dropped " + dropped.sum() + " event(s) so far");
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Wait until everything queued so far is written (or the timeout passes)
+     */
+    public boolean flush(long timeoutMs) {
+        if (writer == null) {
+            return true;
+        }
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        try {
+            if (!queue.offer(done, timeoutMs, TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+            done.get(timeoutMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Write everything still queued and stop the writer thread (safe to call more than once)
+     */
+    public void shutdown() {
+        Thread current;
+        synchronized (this) {
+            if (stopped) {
+                return;
+            }
+            stopped = true;
+            current = writer;
+        }
+        if (current == null) {
+            return;
+        }
+
+        try {
+            if (queue.offer(STOP, shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+                current.join(shutdownTimeoutMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Events that raced with shutdown (or outlived a stuck writer) are written here
+        List<AuditEvent> leftovers = new ArrayList<>();
+        for (Object item : queue.toArray()) {
+            if (item instanceof AuditEvent event && queue.remove(item)) {
+                leftovers.add(event);
+            }
+        }
+        if (!leftovers.isEmpty()) {
+            writeBatch(leftovers);
+        }
+        System.out.println("📝 Audit log flushed | " + getStats());
+    }
+
+    /**
+     * Get queue and write metrics for display
+     */
+    public String getStats() {
+        long batchCount = batches.sum();
+        double avgBatchMillis = batchCount == 0 ? 0 : writeNanos.sum() / 1_000_000.0 / batchCount;
+        return String.format("Audit: %d queued now, %d enqueued, %d written in %d batches (avg %.1f ms), %d dropped, %d failed",
+                queue.size(), enqueued.sum(), written.sum(), batchCount, avgBatchMillis, dropped.sum(), failed.sum());
+    }
+
+    private synchronized boolean ensureStarted() {
+        if (stopped) {
+            return false;
+        }
+        if (writer != null) {
+            return true;
+        }
+        writer = new Thread(this::run, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+        // Daemon threads die with the JVM, so flush pending events on any exit path
+        try {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "audit-flush"));
+        } catch (IllegalStateException e) {
+            // Already exiting; Main.stop or the caller's shutdown() does the flush
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void run() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        long deadline = 0;
+
+        while (true) {
+            long wait = batch.isEmpty() ? flushIntervalMs : deadline - System.currentTimeMillis();
+            Object item = null;
+            if (wait > 0) {
+                try {
+                    item = queue.poll(wait, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    item = STOP;
+                }
+            }
+
+            if (item instanceof AuditEvent event) {
+                if (batch.isEmpty()) {
+                    deadline = System.currentTimeMillis() + flushIntervalMs;
+                }
+                batch.add(event);
+                if (batch.size() < batchSize) {
+                    continue;
+                }
+            }
+
+            // Batch full, flush interval passed, or a flush/stop request
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+                batch.clear();
+            }
+            if (item instanceof CompletableFuture<?> flushRequest) {
+                ((CompletableFuture<Void>) flushRequest).complete(null);
+            } else if (item == STOP) {
+                return;
+            }
+        }
+    }
+
+    private void writeBatch(List<AuditEvent> events) {
+        long start = System.nanoTime();
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+                for (AuditEvent event : events) {
+                    pstmt.setString(1, event.action());
+                    pstmt.setString(2, event.tableName());
+                    pstmt.setInt(3, event.recordId());
+                    pstmt.setString(4, event.details());
+                    pstmt.setString(5, TIMESTAMP_FORMAT.format(event.at()));
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+            written.add(events.size());
+            batches.increment();
+        } catch (SQLException e) {
+            failed.add(events.size());
+            System.err.println("Failed to write " + events.size() + " audit event(s): " + e.getMessage());
+        } finally {
+            writeNanos.add(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.sportsmanager.dao;
+
+import com.sportsmanager.util.ConfigManager;
+import org.sqlite.SQLiteConnection;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Online backups of the local SQLite database: the active provider's file with db.provider=sqlite,
+ * otherwise the replica and audit database (DatabaseConnection)
+ * Copies run on a background thread through SQLite's backup API a few pages at a time, pausing
+ * between steps so screens and the sync worker keep their turn at the database. Scheduled snapshots
+ * rotate in backup.dir, are skipped when the database hasn't changed, and keep the newest backup.retention.count.
+ */
+public class BackupManager {
+    private static BackupManager instance;
+
+    private static final int SQLITE_OK = 0;
+    private static final int SQLITE_DONE = 101;
+    private static final String SNAPSHOT_PREFIX = "sports_manager-";
+    private static final String SNAPSHOT_SUFFIX = ".db";
+    private static final DateTimeFormatter SNAPSHOT_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /**
+     * Receives backup progress in pages copied out of the total
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(int pagesCopied, int totalPages);
+    }
+
+    private final Path backupDir;
+    private final int retentionCount;
+    private final int intervalMinutes;
+    private final int pagesPerStep;
+    private final long stepPauseMs;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "db-backup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private boolean scheduled = false;
+    private String lastSnapshotSignature;
+
+    private BackupManager() {
+        ConfigManager config = ConfigManager.getInstance();
+        this.backupDir = Paths.get(config.get("backup.dir", "backups"));
+        this.retentionCount = Math.max(config.getInt("backup.retention.count", 7), 1);
+        this.intervalMinutes = config.getInt("backup.interval.minutes", 0);
+        this.pagesPerStep = Math.max(config.getInt("backup.pages.per.step", 100), 1);
+        this.stepPauseMs = config.getInt("backup.step.pause.ms", 5);
+    }
+
+    public static synchronized BackupManager getInstance() {
+        if (instance == null) {
+            instance = new BackupManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Start rotating snapshots every backup.interval.minutes (no-op when 0)
+     */
+    public synchronized void start() {
+        if (scheduled || intervalMinutes <= 0) {
+            return;
+        }
+        scheduled = true;
+        executor.scheduleWithFixedDelay(this::scheduledSnapshot, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+        System.out.println("🗄️ Database snapshots every " + intervalMinutes + " min → " + backupDir.toAbsolutePath()
+                + " (keeping " + retentionCount + ")");
+    }
+
+    /**
+     * Stop scheduling; a copy already running is allowed to finish
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Copy the database to the given file in the background
+     */
+    public CompletableFuture<Path> backupTo(Path target, ProgressListener listener) {
+        CompletableFuture<Path> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                result.complete(copyDatabase(target, listener));
+            } catch (Exception e) {
+                System.err.println("❌ Backup failed: " + e.getMessage());
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Take a rotating snapshot now, even if nothing changed since the last one
+     */
+    public CompletableFuture<Path> snapshotNow(ProgressListener listener) {
+        CompletableFuture<Path> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                result.complete(takeSnapshot(listener));
+            } catch (Exception e) {
+                System.err.println("❌ Snapshot failed: " + e.getMessage());
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * List snapshots, newest first
+     */
+    public List<Path> listSnapshots() throws IOException {
+        List<Path> snapshots = new ArrayList<>();
+        if (!Files.isDirectory(backupDir)) {
+            return snapshots;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(backupDir, SNAPSHOT_PREFIX + "*" + SNAPSHOT_SUFFIX)) {
+            stream.forEach(snapshots::add);
+        }
+        // Timestamped names sort chronologically
+        snapshots.sort((a, b) -> b.getFileName().toString().compareTo(a.getFileName().toString()));
+        return snapshots;
+    }
+
+    private void scheduledSnapshot() {
+        try {
+            String signature = sourceSignature();
+            if (signature.equals(lastSnapshotSignature)) {
+                System.out.println("🗄️ Database unchanged since last snapshot, skipping");
+                return;
+            }
+            takeSnapshot(null);
+        } catch (Exception e) {
+            // Keep the schedule alive; an escaped exception would cancel it
+            System.err.println("❌ Scheduled snapshot failed: " + e.getMessage());
+        }
+    }
+
+    private Path takeSnapshot(ProgressListener listener) throws SQLException, IOException {
+        String signature = sourceSignature();
+        Files.createDirectories(backupDir);
+        Path target = backupDir.resolve(SNAPSHOT_PREFIX + LocalDateTime.now().format(SNAPSHOT_TIME) + SNAPSHOT_SUFFIX);
+
+        Path snapshot = copyDatabase(target, listener);
+        lastSnapshotSignature = signature;
+        pruneSnapshots();
+        return snapshot;
+    }
+
+    private Path copyDatabase(Path target, ProgressListener listener) throws SQLException, IOException {
+        Path absolute = target.toAbsolutePath();
+        if (absolute.getParent() != null) {
+            Files.createDirectories(absolute.getParent());
+        }
+        // Copy next to the target and rename at the end, so a failed run never leaves a half-written backup
+        Path partial = absolute.resolveSibling(absolute.getFileName() + ".part");
+        Files.deleteIfExists(partial);
+
+        long start = System.currentTimeMillis();
+        int[] lastQuarter = {-1};
+        try (Connection conn = DatabaseConnection.getConnection("jdbc:sqlite:" + sourcePath())) {
+            int rc = conn.unwrap(SQLiteConnection.class).getDatabase().backup("main", partial.toString(),
+                    (remaining, pageCount) -> {
+                        int copied = pageCount - remaining;
+                        if (listener != null) {
+                            listener.onProgress(copied, pageCount);
+                        }
+                        int quarter = pageCount == 0 ? 4 : copied * 4 / pageCount;
+                        if (quarter != lastQuarter[0]) {
+                            lastQuarter[0] = quarter;
+                            System.out.println("🗄️ Backup " + (quarter * 25) + "% (" + copied + "/" + pageCount + " pages)");
+                        }
+                        pause();
+                    },
+                    // Retry for up to ~5s if a writer holds the database, then copy pagesPerStep at a time
+                    100, 50, pagesPerStep);
+            if (rc != SQLITE_OK && rc != SQLITE_DONE) {
+                throw new SQLException("SQLite backup stopped with code " + rc);
+            }
+        } catch (SQLException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+
+        try {
+            Files.move(partial, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(partial, absolute, StandardCopyOption.REPLACE_EXISTING);
+        }
+        System.out.println("✅ Database backed up to: " + absolute + " (" + Files.size(absolute) / 1024 + " KB in "
+                + (System.currentTimeMillis() - start) + " ms)");
+        return absolute;
+    }
+
+    // Between backup steps the source database is unlocked; sleeping here gives other connections their turn
+    private void pause() {
+        if (stepPauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(stepPauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void pruneSnapshots() throws IOException {
+        List<Path> snapshots = listSnapshots();
+        for (int i = retentionCount; i < snapshots.size(); i++) {
+            Files.deleteIfExists(snapshots.get(i));
+            System.out.println("🗑️ Removed old snapshot: " + snapshots.get(i).getFileName());
+        }
+    }
+
+    // The file the DAOs read and write when the active provider is one, else the replica database
+    private static String sourcePath() {
+        String path = DataSources.get().getDatabasePath();
+        return path != null ? path : DatabaseConnection.getDatabasePath();
+    }
+
+    // Size and modification time of the database and its WAL; unchanged means there is nothing new to snapshot
+    private String sourceSignature() throws IOException {
+        String path = sourcePath();
+        Path database = Paths.get(path);
+        Path wal = Paths.get(path + "-wal");
+        StringBuilder signature = new StringBuilder();
+        for (Path file : new Path[]{database, wal}) {
+            if (Files.exists(file)) {
+                signature.append(Files.size(file)).append('@').append(Files.getLastModifiedTime(file).toMillis()).append(';');
+            }
+        }
+        return signature.toString();
+    }
+}
@@ -0,0 +1,503 @@
+package com.sportsmanager.dao;
+
+import com.sportsmanager.util.Log;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded JDBC connection pool
+ * Hands out proxy connections whose close() returns the physical connection to the pool.
+ * Each physical connection also keeps its most recently used prepareStatement(sql) statements,
+ * so a DAO preparing the same SQL on its next borrow gets the already-compiled statement back.
+ */
+public class ConnectionPool {
+    private static final Log log = Log.get(ConnectionPool.class);
+
+    /**
+     * Opens a new physical connection
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection create() throws SQLException;
+    }
+
+    private final String name;
+    private final ConnectionFactory factory;
+    private final int maxSize;
+    private final int minIdle;
+    private final long borrowTimeoutMs;
+    private final long idleValidationMs;
+    private final long maxLifetimeMs;
+    private final int statementCacheSize;
+
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger physical = new AtomicInteger();
+    private volatile boolean shutdown = false;
+
+    // Metrics
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder borrowNanos = new LongAdder();
+    private final AtomicLong maxBorrowNanos = new AtomicLong();
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder retiredCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder statementHits = new LongAdder();
+    private final LongAdder statementMisses = new LongAdder();
+    private final LongAdder statementEvictions = new LongAdder();
+
+    /**
+     * statementCacheSize: prepared statements kept per physical connection, 0 to prepare every time
+     */
+    public ConnectionPool(String name, ConnectionFactory factory, int maxSize, int minIdle,
+                          long borrowTimeoutMs, long idleValidationMs, long maxLifetimeMs,
+                          int statementCacheSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1");
+        }
+        this.name = name;
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.minIdle = Math.min(minIdle, maxSize);
+        this.borrowTimeoutMs = borrowTimeoutMs;
+        this.idleValidationMs = idleValidationMs;
+        this.maxLifetimeMs = maxLifetimeMs;
+        this.statementCacheSize = Math.max(statementCacheSize, 0);
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Borrow a connection, waiting up to the borrow timeout for a free slot
+     */
+    public Connection getConnection() throws SQLException {
+        if (shutdown) {
+            throw new SQLException("Connection pool '" + name + "' is shut down");
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                timeoutCount.increment();
+                throw new SQLException("Timed out after " + borrowTimeoutMs + " ms waiting for a connection ("
+                        + name + ": " + active.get() + " active, " + permits.getQueueLength() + " waiting)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", e);
+        }
+
+        try {
+            PooledConnection pooled = takeIdle();
+            if (pooled == null) {
+                pooled = createPhysical();
+            }
+            active.incrementAndGet();
+            recordBorrow(System.nanoTime() - start);
+            return pooled.lease();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Open connections up to the minimum idle count so the first clicks are fast
+     */
+    public void warmUp() {
+        int missing = minIdle - idle.size();
+        for (int i = 0; i < missing && !shutdown; i++) {
+            if (physical.get() >= maxSize) {
+                return;
+            }
+            try {
+                idle.offerFirst(createPhysical());
+            } catch (SQLException e) {
+                log.warn("Pool '{}' warm-up stopped: {}", name, e.getMessage());
+                return;
+            }
+        }
+        log.info("Pool '{}' warmed up ({} idle)", name, idle.size());
+    }
+
+    /**
+     * Close every idle connection and refuse new borrows
+     */
+    public void shutdown() {
+        shutdown = true;
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            retire(pooled);
+        }
+        log.info("Pool '{}' shut down", name);
+    }
+
+    public int getActiveCount() { return active.get(); }
+    public int getIdleCount() { return idle.size(); }
+    public int getWaiterCount() { return permits.getQueueLength(); }
+    public int getMaxSize() { return maxSize; }
+    public long getBorrowCount() { return borrowCount.sum(); }
+    public long getTimeoutCount() { return timeoutCount.sum(); }
+    public long getStatementHits() { return statementHits.sum(); }
+    public long getStatementMisses() { return statementMisses.sum(); }
+
+    /**
+     * Share of prepareStatement(sql) calls served from the statement cache
+     */
+    public double getStatementHitRate() {
+        long total = statementHits.sum() + statementMisses.sum();
+        return total == 0 ? 0.0 : (double) statementHits.sum() / total;
+    }
+
+    public double getAverageBorrowMillis() {
+        long count = borrowCount.sum();
+        return count == 0 ? 0.0 : borrowNanos.sum() / (count * 1_000_000.0);
+    }
+
+    public double getMaxBorrowMillis() {
+        return maxBorrowNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * Get pool metrics for display
+     */
+    public String getStats() {
+        String stats = String.format(
+                "Pool %s: %d active, %d idle, %d waiting | borrows: %d (avg %.2f ms, max %.2f ms, timeouts %d) | opened: %d, retired: %d",
+                name, getActiveCount(), getIdleCount(), getWaiterCount(), getBorrowCount(),
+                getAverageBorrowMillis(), getMaxBorrowMillis(), getTimeoutCount(),
+                createdCount.sum(), retiredCount.sum());
+        if (statementCacheSize > 0) {
+            stats += String.format(" | statements: %.1f%% cached (%d hits, %d prepared, %d evicted)",
+                    getStatementHitRate() * 100, getStatementHits(), getStatementMisses(), statementEvictions.sum());
+        }
+        return stats;
+    }
+
+    private PooledConnection takeIdle() {
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            long now = System.currentTimeMillis();
+
+            if (now - pooled.createdAt > maxLifetimeMs) {
+                retire(pooled);
+                continue;
+            }
+
+            if (now - pooled.lastReturnedAt > idleValidationMs && !isAlive(pooled.physical)) {
+                log.warn("Pool '{}' discarding stale connection", name);
+                retire(pooled);
+                continue;
+            }
+
+            return pooled;
+        }
+        return null;
+    }
+
+    private PooledConnection createPhysical() throws SQLException {
+        Connection conn = factory.create();
+        physical.incrementAndGet();
+        createdCount.increment();
+        return new PooledConnection(conn);
+    }
+
+    private void release(PooledConnection pooled, boolean broken) {
+        active.decrementAndGet();
+        try {
+            if (broken || shutdown || System.currentTimeMillis() - pooled.createdAt > maxLifetimeMs) {
+                retire(pooled);
+                return;
+            }
+
+            try {
+                if (!pooled.physical.getAutoCommit()) {
+                    pooled.physical.rollback();
+                    pooled.physical.setAutoCommit(true);
+                }
+                pooled.physical.clearWarnings();
+            } catch (SQLException e) {
+                retire(pooled);
+                return;
+            }
+
+            pooled.lastReturnedAt = System.currentTimeMillis();
+            idle.offerFirst(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void retire(PooledConnection pooled) {
+        physical.decrementAndGet();
+        retiredCount.increment();
+        // Closing the connection closes its statements
+        pooled.statements.clear();
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            // Already unusable
+        }
+    }
+
+    private boolean isAlive(Connection conn) {
+        try {
+            return conn.isValid(2);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void recordBorrow(long nanos) {
+        borrowCount.increment();
+        borrowNanos.add(nanos);
+        maxBorrowNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Physical connection plus pool bookkeeping
+     */
+    private final class PooledConnection {
+        private final Connection physical;
+        private final long createdAt = System.currentTimeMillis();
+        private volatile long lastReturnedAt = createdAt;
+
+        // Idle statements by SQL, least recently used first; only touched by the borrowing thread
+        private final Map<String, PreparedStatement> statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() <= statementCacheSize) {
+                    return false;
+                }
+                statementEvictions.increment();
+                closeQuietly(eldest.getValue());
+                return true;
+            }
+        };
+
+        private PooledConnection(Connection physical) {
+            this.physical = physical;
+        }
+
+        private Connection lease() {
+            return (Connection) Proxy.newProxyInstance(
+                    ConnectionPool.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new LeaseHandler(this));
+        }
+    }
+
+    /**
+     * Proxy handler for a single borrow; close() hands the connection back instead of closing it
+     */
+    private final class LeaseHandler implements InvocationHandler {
+        private final PooledConnection pooled;
+        private boolean closed = false;
+        private boolean broken = false;
+
+        private LeaseHandler(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        release(pooled, broken);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled[" + name + "] " + pooled.physical;
+                default:
+                    break;
+            }
+
+            if (closed) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+
+            if (statementCacheSize > 0 && method.getName().equals("prepareStatement")
+                    && args != null && args.length == 1) {
+                return prepareCached(proxy, (String) args[0]);
+            }
+
+            try {
+                return method.invoke(pooled.physical, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException sqlException && isFatal(sqlException)) {
+                    broken = true;
+                }
+                throw cause;
+            }
+        }
+
+        private boolean isFatal(SQLException e) {
+            // SQLSTATE class 08 = connection exception
+            String state = e.getSQLState();
+            return state != null && state.startsWith("08");
+        }
+
+        private PreparedStatement prepareCached(Object connection, String sql) throws SQLException {
+            // Taken out while in use, so preparing the same SQL twice in one borrow gives two statements
+            PreparedStatement statement = pooled.statements.remove(sql);
+            if (statement != null && !statement.isClosed()) {
+                statementHits.increment();
+            } else {
+                statementMisses.increment();
+                try {
+                    statement = pooled.physical.prepareStatement(sql);
+                } catch (SQLException e) {
+                    broken |= isFatal(e);
+                    throw e;
+                }
+            }
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    ConnectionPool.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    new StatementHandler(this, connection, sql, statement));
+        }
+
+        /**
+         * Put a statement back for the next borrow, reset as if newly prepared; anything that can't be reset is closed
+         */
+        private void recycle(StatementHandler handler) {
+            PreparedStatement statement = handler.physical;
+            if (handler.resultSet != null) {
+                closeQuietly(handler.resultSet);
+            }
+            if (closed || broken || !handler.reusable) {
+                closeQuietly(statement);
+                return;
+            }
+            try {
+                statement.clearParameters();
+                statement.clearWarnings();
+                if (handler.batched) {
+                    statement.clearBatch();
+                }
+                if (handler.tuned) {
+                    statement.setFetchSize(0);
+                    statement.setMaxRows(0);
+                    statement.setQueryTimeout(0);
+                }
+            } catch (SQLException e) {
+                closeQuietly(statement);
+                return;
+            }
+            PreparedStatement previous = pooled.statements.put(handler.sql, statement);
+            if (previous != null) {
+                closeQuietly(previous);
+            }
+        }
+    }
+
+    /**
+     * Proxy handler for a cached statement; close() recycles it on the connection instead of closing it
+     */
+    private static final class StatementHandler implements InvocationHandler {
+        private final LeaseHandler lease;
+        private final Object connection;
+        private final String sql;
+        private final PreparedStatement physical;
+        // Executing again closes the previous result set, so only the latest can still be open
+        private ResultSet resultSet;
+        private boolean closed = false;
+        private boolean reusable = true;
+        private boolean batched = false;
+        private boolean tuned = false;
+
+        private StatementHandler(LeaseHandler lease, Object connection, String sql, PreparedStatement physical) {
+            this.lease = lease;
+            this.connection = connection;
+            this.sql = sql;
+            this.physical = physical;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        lease.recycle(this);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || physical.isClosed();
+                case "getConnection":
+                    return connection;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Cached[" + sql + "]";
+                default:
+                    break;
+            }
+
+            if (closed) {
+                throw new SQLException("Statement is closed");
+            }
+            // Settings that would carry over to the next caller: the common ones are reset, others aren't cached
+            switch (method.getName()) {
+                case "addBatch" -> batched = true;
+                case "setFetchSize", "setMaxRows", "setQueryTimeout" -> tuned = true;
+                default -> {
+                    if (method.getDeclaringClass() == Statement.class && method.getName().startsWith("set")) {
+                        reusable = false;
+                    }
+                }
+            }
+
+            try {
+                Object result = method.invoke(physical, args);
+                // DAOs often leave result sets to the statement's close(), which now has to close them itself
+                if (result instanceof ResultSet rs) {
+                    resultSet = rs;
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException sqlException) {
+                    lease.broken |= lease.isFatal(sqlException);
+                    reusable = false;
+                }
+                throw cause;
+            }
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable resource) {
+        try {
+            resource.close();
+        } catch (Exception e) {
+            // Nothing more to release
+        }
+    }
+}
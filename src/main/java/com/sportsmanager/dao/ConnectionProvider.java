@@ -0,0 +1,64 @@
+package com.sportsmanager.dao;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Source of connections for the DAOs (Supabase, a SQLite file, or an in-memory database)
+ * Closing a returned connection gives it back to the provider.
+ */
+public interface ConnectionProvider {
+
+    /**
+     * Get a connection; callers close it when done
+     */
+    Connection getConnection() throws SQLException;
+
+    /**
+     * SQL dialect spoken by this provider's connections
+     */
+    SqlDialect getDialect();
+
+    /**
+     * Get a short description for display
+     */
+    String getName();
+
+    /**
+     * Path of the SQLite file behind this provider, null when it isn't a file (backups copy this file)
+     */
+    default String getDatabasePath() {
+        return null;
+    }
+
+    /**
+     * Pool and statement cache counters for display (empty when not pooled)
+     */
+    default String getStats() {
+        return "";
+    }
+
+    /**
+     * Open connections ahead of first use (no-op by default)
+     */
+    default void warmUp() {
+    }
+
+    /**
+     * Test that a working connection can be obtained
+     */
+    default boolean testConnection() {
+        try (Connection conn = getConnection()) {
+            return conn.isValid(5);
+        } catch (SQLException e) {
+            System.err.println("❌ Connection test FAILED: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Release the provider's connections (no-op by default)
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,297 @@
+package com.sportsmanager.dao;
+
+import com.sportsmanager.util.ConfigManager;
+import com.sportsmanager.util.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency of every DAO method, split into connection acquire, statement execution (including row fetches)
+ * and row mapping, with the rows each call read
+ * A DAO holds one registry, like its Log, and wraps each call:
+ * <pre>
+ * try (DaoMetrics.Call call = metrics.start("getTeamsBySport");
+ *      Connection conn = call.acquired(LocalReplica.getReadConnection());
+ *      PreparedStatement pstmt = conn.prepareStatement(sql)) {
+ *     ResultSet rs = call.query(pstmt);
+ *     while (call.next(rs)) { ...map the row... }
+ * }
+ * </pre>
+ * Histograms are lock-free; metrics.enabled=false hands out a call that records nothing.
+ */
+public final class DaoMetrics {
+
+    private static final boolean ENABLED = ConfigManager.getInstance().getBoolean("metrics.enabled", true);
+    private static final List<DaoMetrics> REGISTRIES = new CopyOnWriteArrayList<>();
+    private static final Call DISABLED = new Call(null);
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /**
+     * One DAO method's totals; times are nanoseconds
+     */
+    public record MethodSnapshot(String method, long calls, long rows,
+                                 LatencyHistogram.Snapshot acquire, LatencyHistogram.Snapshot execute,
+                                 LatencyHistogram.Snapshot mapping, LatencyHistogram.Snapshot total) {
+
+        public double rowsPerCall() {
+            return calls == 0 ? 0 : (double) rows / calls;
+        }
+    }
+
+    /**
+     * Statements run by a helper that only takes the connection
+     */
+    @FunctionalInterface
+    public interface Work<T> {
+        T run() throws SQLException;
+    }
+
+    private static final class MethodStats {
+        final LatencyHistogram acquire = new LatencyHistogram();
+        final LatencyHistogram execute = new LatencyHistogram();
+        final LatencyHistogram mapping = new LatencyHistogram();
+        final LatencyHistogram total = new LatencyHistogram();
+        final LongAdder rows = new LongAdder();
+    }
+
+    private final String owner;
+    private final Map<String, MethodStats> methods = new ConcurrentHashMap<>();
+
+    private DaoMetrics(String owner) {
+        this.owner = owner;
+    }
+
+    public static DaoMetrics get(Class<?> type) {
+        DaoMetrics metrics = new DaoMetrics(type.getSimpleName());
+        REGISTRIES.add(metrics);
+        return metrics;
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Start timing one call of a method; the acquire phase runs until acquired()
+     */
+    public Call start(String method) {
+        if (!ENABLED) {
+            return DISABLED;
+        }
+        MethodStats stats = methods.get(method);
+        if (stats == null) {
+            stats = methods.computeIfAbsent(method, key -> new MethodStats());
+        }
+        return new Call(stats);
+    }
+
+    /**
+     * Every method called since startup or the last reset, slowest p99 first
+     */
+    public static List<MethodSnapshot> snapshot() {
+        List<MethodSnapshot> snapshots = new ArrayList<>();
+        for (DaoMetrics registry : REGISTRIES) {
+            for (Map.Entry<String, MethodStats> entry : registry.methods.entrySet()) {
+                MethodStats stats = entry.getValue();
+                LatencyHistogram.Snapshot total = stats.total.snapshot();
+                snapshots.add(new MethodSnapshot(registry.owner + "." + entry.getKey(), total.count(),
+                        stats.rows.sum(), stats.acquire.snapshot(), stats.execute.snapshot(),
+                        stats.mapping.snapshot(), total));
+            }
+        }
+        snapshots.sort(Comparator.comparingLong((MethodSnapshot s) -> s.total().percentile(99)).reversed());
+        return snapshots;
+    }
+
+    /**
+     * Drop everything recorded so far; calls already in flight finish into the old totals
+     */
+    public static void reset() {
+        for (DaoMetrics registry : REGISTRIES) {
+            registry.methods.clear();
+        }
+    }
+
+    /**
+     * The snapshot as a fixed-width table, times in milliseconds
+     */
+    public static void print(PrintStream out) {
+        out.printf("%-46s %8s %8s %9s %9s %9s %9s %9s %9s %9s %9s %9s%n",
+                "DAO method", "Calls", "Rows/call", "Acq p50", "Acq p99", "Exec p50", "Exec p99",
+                "Map p50", "Map p99", "p50 ms", "p99 ms", "Max ms");
+        for (MethodSnapshot s : snapshot()) {
+            out.printf("%-46s %8d %8.1f %9.3f %9.3f %9.3f %9.3f %9.3f %9.3f %9.3f %9.3f %9.3f%n",
+                    s.method(), s.calls(), s.rowsPerCall(),
+                    millis(s.acquire().percentile(50)), millis(s.acquire().percentile(99)),
+                    millis(s.execute().percentile(50)), millis(s.execute().percentile(99)),
+                    millis(s.mapping().percentile(50)), millis(s.mapping().percentile(99)),
+                    millis(s.total().percentile(50)), millis(s.total().percentile(99)), millis(s.total().max()));
+        }
+    }
+
+    /**
+     * Write the table to a timestamped file under metrics.dump.dir and return its path
+     */
+    public static Path dump() throws IOException {
+        Path dir = Path.of(ConfigManager.getInstance().get("metrics.dump.dir", "diagnostics"));
+        Files.createDirectories(dir);
+        Path file = dir.resolve("dao-metrics-" + LocalDateTime.now().format(FILE_STAMP) + ".txt");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            out.println("# DAO metrics at " + LocalDateTime.now() + " (" + DataSources.get().getName() + ")");
+            out.println("# " + DataSources.get().getStats());
+            print(out);
+        }
+        return file;
+    }
+
+    public static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Timing of one DAO call, used by one thread; close() records it
+     * Everything between the end of one next() and the start of the following one counts as mapping,
+     * so a loop that stops before next() returns false leaves its last row unmapped.
+     */
+    public static final class Call implements AutoCloseable {
+        private final MethodStats stats;
+        private final long started;
+        private long acquire;
+        private long execute;
+        private long mapping;
+        private long rows;
+        private long lastRow;
+
+        private Call(MethodStats stats) {
+            this.stats = stats;
+            this.started = stats == null ? 0 : System.nanoTime();
+        }
+
+        public Connection acquired(Connection conn) {
+            if (stats != null) {
+                acquire = System.nanoTime() - started;
+            }
+            return conn;
+        }
+
+        public ResultSet query(PreparedStatement pstmt) throws SQLException {
+            if (stats == null) {
+                return pstmt.executeQuery();
+            }
+            // A new result set: rows left unread in the last one aren't mapping
+            lastRow = 0;
+            long start = System.nanoTime();
+            try {
+                return pstmt.executeQuery();
+            } finally {
+                execute += System.nanoTime() - start;
+            }
+        }
+
+        public ResultSet query(Statement stmt, String sql) throws SQLException {
+            if (stats == null) {
+                return stmt.executeQuery(sql);
+            }
+            lastRow = 0;
+            long start = System.nanoTime();
+            try {
+                return stmt.executeQuery(sql);
+            } finally {
+                execute += System.nanoTime() - start;
+            }
+        }
+
+        public int update(PreparedStatement pstmt) throws SQLException {
+            if (stats == null) {
+                return pstmt.executeUpdate();
+            }
+            long start = System.nanoTime();
+            try {
+                return pstmt.executeUpdate();
+            } finally {
+                execute += System.nanoTime() - start;
+            }
+        }
+
+        public int[] batch(PreparedStatement pstmt) throws SQLException {
+            if (stats == null) {
+                return pstmt.executeBatch();
+            }
+            long start = System.nanoTime();
+            try {
+                return pstmt.executeBatch();
+            } finally {
+                execute += System.nanoTime() - start;
+            }
+        }
+
+        /**
+         * Time a whole block as execution, e.g. a transaction run by a shared helper
+         */
+        public <T> T execute(Work<T> work) throws SQLException {
+            if (stats == null) {
+                return work.run();
+            }
+            long start = System.nanoTime();
+            try {
+                return work.run();
+            } finally {
+                execute += System.nanoTime() - start;
+            }
+        }
+
+        /**
+         * rs.next(), counting the row and timing the fetch as execution
+         */
+        public boolean next(ResultSet rs) throws SQLException {
+            if (stats == null) {
+                return rs.next();
+            }
+            long start = System.nanoTime();
+            if (lastRow != 0) {
+                mapping += start - lastRow;
+            }
+            boolean more = rs.next();
+            long end = System.nanoTime();
+            execute += end - start;
+            if (more) {
+                rows++;
+                lastRow = end;
+            } else {
+                lastRow = 0;
+            }
+            return more;
+        }
+
+        @Override
+        public void close() {
+            if (stats == null) {
+                return;
+            }
+            long end = System.nanoTime();
+            stats.acquire.record(acquire);
+            stats.execute.record(execute);
+            stats.mapping.record(mapping);
+            stats.total.record(end - started);
+            stats.rows.add(rows);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.sportsmanager.dao;
+
+import com.sportsmanager.util.ConfigManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chooses where the DAOs get their connections from
+ * db.provider selects Supabase (postgres, the default), a SQLite file (sqlite) or a throwaway
+ * in-memory SQLite database (memory); tools and benchmarks can swap providers with use().
+ */
+public final class DataSources {
+    public static final String POSTGRES = "postgres";
+    public static final String SQLITE = "sqlite";
+    public static final String MEMORY = "memory";
+
+    private static final AtomicInteger memoryCounter = new AtomicInteger();
+    private static volatile ConnectionProvider current;
+
+    private DataSources() {
+        // Static access only
+    }
+
+    /**
+     * Get the active provider, creating it from config.properties on first use
+     */
+    public static ConnectionProvider get() {
+        ConnectionProvider provider = current;
+        if (provider == null) {
+            synchronized (DataSources.class) {
+                if (current == null) {
+                    current = fromConfig();
+                    System.out.println("🔌 Data source: " + current.getName());
+                }
+                provider = current;
+            }
+        }
+        return provider;
+    }
+
+    /**
+     * Get a connection from the active provider
+     */
+    public static Connection getConnection() throws SQLException {
+        return get().getConnection();
+    }
+
+    /**
+     * Get the dialect of the active provider
+     */
+    public static SqlDialect dialect() {
+        return get().getDialect();
+    }
+
+    /**
+     * Switch every DAO to another provider; returns the previous one (caller closes it)
+     */
+    public static synchronized ConnectionProvider use(ConnectionProvider provider) {
+        ConnectionProvider previous = current;
+        current = provider;
+        // Cached rows belong to the old database
+        SportDAO.invalidateCache();
+        TournamentDAO.invalidateStatsCache();
+        PermissionCache.getInstance().invalidate();
+        System.out.println("🔌 Data source: " + provider.getName());
+        return previous;
+    }
+
+    /**
+     * Supabase PostgreSQL through the shared connection pool
+     */
+    public static ConnectionProvider postgres() {
+        return new ConnectionProvider() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return SupabaseConnection.getConnection();
+            }
+
+            @Override
+            public SqlDialect getDialect() {
+                return SqlDialect.POSTGRESQL;
+            }
+
+            @Override
+            public String getName() {
+                return SupabaseConnection.getConnectionInfo();
+            }
+
+            @Override
+            public String getStats() {
+                return SupabaseConnection.getPool().getStats();
+            }
+
+            @Override
+            public void warmUp() {
+                SupabaseConnection.getPool().warmUp();
+            }
+
+            @Override
+            public boolean testConnection() {
+                return SupabaseConnection.testConnection();
+            }
+
+            @Override
+            public void close() {
+                SupabaseConnection.shutdownPool();
+            }
+        };
+    }
+
+    /**
+     * A SQLite database file, created and migrated to the current schema if needed
+     * Connections are pooled (db.sqlite.pool.size) so each keeps its page cache between queries.
+     */
+    public static ConnectionProvider sqlite(String path) throws SQLException {
+        String url = "jdbc:sqlite:" + path;
+        try (Connection conn = DatabaseConnection.getConnection(url)) {
+            DatabaseConnection.initializeDatabase(conn);
+        }
+
+        ConfigManager config = ConfigManager.getInstance();
+        ConnectionPool pool = new ConnectionPool("sqlite", () -> DatabaseConnection.getConnection(url),
+                config.getInt("db.sqlite.pool.size", 4), 0, 10_000, 30_000, Long.MAX_VALUE,
+                config.getInt("db.statement.cache.size", 32));
+
+        return new ConnectionProvider() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return pool.getConnection();
+            }
+
+            @Override
+            public SqlDialect getDialect() {
+                return SqlDialect.SQLITE;
+            }
+
+            @Override
+            public String getName() {
+                return "💾 SQLite: " + path;
+            }
+
+            @Override
+            public String getDatabasePath() {
+                return path;
+            }
+
+            @Override
+            public String getStats() {
+                return pool.getStats();
+            }
+
+            @Override
+            public void close() {
+                pool.shutdown();
+            }
+        };
+    }
+
+    /**
+     * A fresh in-memory database with the full schema and default sports, using one pooled connection
+     */
+    public static ConnectionProvider inMemory() throws SQLException {
+        return inMemory(1);
+    }
+
+    /**
+     * A fresh in-memory database shared by up to poolSize pooled connections
+     * The database lives until close(); shared-cache writers lock whole tables, so keep the pool small.
+     */
+    public static ConnectionProvider inMemory(int poolSize) throws SQLException {
+        String name = "sports-mem-" + memoryCounter.incrementAndGet();
+        String url = "jdbc:sqlite:file:" + name + "?mode=memory&cache=shared";
+
+        // The database is dropped when its last connection closes, so hold one open for its lifetime
+        Connection anchor = DriverManager.getConnection(url);
+        try {
+            DatabaseConnection.initializeDatabase(anchor);
+        } catch (SQLException e) {
+            anchor.close();
+            throw e;
+        }
+
+        ConnectionPool pool = new ConnectionPool(name, () -> DatabaseConnection.getConnection(url),
+                poolSize, 0, 10_000, Long.MAX_VALUE, Long.MAX_VALUE,
+                ConfigManager.getInstance().getInt("db.statement.cache.size", 32));
+
+        return new ConnectionProvider() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return pool.getConnection();
+            }
+
+            @Override
+            public SqlDialect getDialect() {
+                return SqlDialect.SQLITE;
+            }
+
+            @Override
+            public String getName() {
+                return "🧪 In-memory SQLite: " + name;
+            }
+
+            @Override
+            public String getStats() {
+                return pool.getStats();
+            }
+
+            @Override
+            public void close() {
+                pool.shutdown();
+                try {
+                    anchor.close();
+                } catch (SQLException e) {
+                    System.err.println("⚠️ Error closing in-memory database: " + e.getMessage());
+                }
+            }
+        };
+    }
+
+    private static ConnectionProvider fromConfig() {
+        ConfigManager config = ConfigManager.getInstance();
+        String provider = config.get("db.provider", POSTGRES).trim().toLowerCase();
+
+        try {
+            return switch (provider) {
+                case SQLITE -> sqlite(config.get("local.db.path", "sports_manager_local.db"));
+                case MEMORY -> inMemory();
+                case POSTGRES -> postgres();
+                default -> {
+                    System.err.println("⚠️ Unknown db.provider '" + provider + "', using " + POSTGRES);
+                    yield postgres();
+                }
+            };
+        } catch (SQLException e) {
+            System.err.println("❌ Could not open " + provider + " data source, using " + POSTGRES + ": " + e.getMessage());
+            return postgres();
+        }
+    }
+}
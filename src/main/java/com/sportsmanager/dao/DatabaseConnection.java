@@ -1,21 +1,62 @@
 package com.sportsmanager.dao;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.*;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 
 public class DatabaseConnection {
-    private static final String URL = "jdbc:sqlite:sports_manager.db";
-    private static final int SCHEMA_VERSION = 1;
+    private static final String DB_PATH = "sports_manager.db";
+    private static final String URL = "jdbc:sqlite:" + DB_PATH;
+    private static final int SCHEMA_VERSION = 7;
 
     public static Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(URL);
+        return getConnection(URL);
+    }
+
+    /**
+     * Path of the local database file
+     */
+    public static String getDatabasePath() {
+        return DB_PATH;
+    }
+
+    /**
+     * Open a connection to any SQLite database (file or in-memory)
+     */
+    static Connection getConnection(String url) throws SQLException {
+        // The replica sync thread writes while screens read; wait briefly instead of failing with SQLITE_BUSY
+        Properties props = new Properties();
+        props.setProperty("busy_timeout", "5000");
+        // Transactions here always write; taking the write lock at BEGIN lets concurrent writers queue on
+        // busy_timeout instead of failing with SQLITE_BUSY when two try to upgrade a read lock at once
+        props.setProperty("transaction_mode", "IMMEDIATE");
+        return DriverManager.getConnection(url, props);
     }
 
     public static void initializeDatabase() {
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement()) {
+        try (Connection conn = getConnection()) {
+            initializeDatabase(conn);
+        } catch (SQLException e) {
+            System.err.println("❌ Database initialization failed!");
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Create or migrate the schema on an open connection (used for file and in-memory databases)
+     */
+    static void initializeDatabase(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
 
             // Enable foreign keys
             stmt.execute("PRAGMA foreign_keys = ON");
+            // Readers don't block the sync writer (persists in the database file)
+            // Returns the new mode; close it so later statements can commit
+            if (stmt.execute("PRAGMA journal_mode = WAL")) {
+                stmt.getResultSet().close();
+            }
 
             // Check if database needs initialization
             if (!isDatabaseInitialized(conn)) {
@@ -31,12 +72,9 @@ public class DatabaseConnection {
                 if (currentVersion < SCHEMA_VERSION) {
                     System.out.println("🔄 Updating database schema...");
                     migrateSchema(conn, currentVersion, SCHEMA_VERSION);
+                    setSchemaVersion(conn, SCHEMA_VERSION);
                 }
             }
-
-        } catch (SQLException e) {
-            System.err.println("❌ Database initialization failed!");
-            e.printStackTrace();
         }
     }
 
@@ -53,7 +91,8 @@ public class DatabaseConnection {
                 id INTEGER PRIMARY KEY AUTOINCREMENT,
                 name TEXT NOT NULL UNIQUE,
                 scoring_type TEXT NOT NULL,
-                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                updated_at TIMESTAMP
             )
         """;
         stmt.execute(sportsTable);
@@ -73,6 +112,7 @@ public class DatabaseConnection {
                 goals_against INTEGER DEFAULT 0,
                 sport_id INTEGER NOT NULL,
                 created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                updated_at TIMESTAMP,
                 FOREIGN KEY (sport_id) REFERENCES sports(id) ON DELETE CASCADE,
                 UNIQUE(name, sport_id)
             )
@@ -92,11 +132,15 @@ public class DatabaseConnection {
                 team2_score INTEGER DEFAULT 0,
                 status TEXT DEFAULT 'Scheduled',
                 sport_id INTEGER NOT NULL,
+                tournament_id INTEGER,
                 created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-                FOREIGN KEY (sport_id) REFERENCES sports(id) ON DELETE CASCADE
+                updated_at TIMESTAMP,
+                FOREIGN KEY (sport_id) REFERENCES sports(id) ON DELETE CASCADE,
+                FOREIGN KEY (tournament_id) REFERENCES tournaments(id) ON DELETE SET NULL
             )
         """;
         stmt.execute(matchesTable);
+        createMatchPagingIndex(stmt);
         System.out.println("  ✓ Matches table created");
 
         // Create schema_version table
@@ -122,6 +166,18 @@ public class DatabaseConnection {
         """;
         stmt.execute(auditTable);
         System.out.println("  ✓ Audit log table created");
+
+        createSyncTables(stmt);
+        System.out.println("  ✓ Replica sync tables created");
+
+        createAccountTables(stmt);
+        System.out.println("  ✓ Account and tournament tables created");
+
+        createSearchIndex(stmt);
+        System.out.println("  ✓ Search index created");
+
+        createTournamentStats(stmt);
+        System.out.println("  ✓ Tournament statistics created");
     }
 
     private static void insertDefaultData(Statement stmt) throws SQLException {
@@ -162,33 +218,299 @@ public class DatabaseConnection {
     }
 
     private static void migrateSchema(Connection conn, int fromVersion, int toVersion) throws SQLException {
-        // Add migration logic here when schema changes
-        System.out.println("  ℹ Schema is up to date (v" + fromVersion + ")");
+        try (Statement stmt = conn.createStatement()) {
+            if (fromVersion < 2) {
+                createMatchPagingIndex(stmt);
+                System.out.println("  ✓ v2: match paging index added");
+            }
+            if (fromVersion < 3) {
+                for (String table : new String[]{"sports", "teams", "matches"}) {
+                    stmt.execute("ALTER TABLE " + table + " ADD COLUMN updated_at TIMESTAMP");
+                }
+                createSyncTables(stmt);
+                System.out.println("  ✓ v3: replica sync columns and tables added");
+            }
+            if (fromVersion < 4) {
+                stmt.execute("ALTER TABLE matches ADD COLUMN tournament_id INTEGER " +
+                        "REFERENCES tournaments(id) ON DELETE SET NULL");
+                createAccountTables(stmt);
+                System.out.println("  ✓ v4: account and tournament tables added");
+            }
+            if (fromVersion < 5) {
+                createSearchIndex(stmt);
+                rebuildSearchIndex(stmt);
+                System.out.println("  ✓ v5: search index added");
+            }
+            if (fromVersion < 6) {
+                createTournamentStats(stmt);
+                rebuildTournamentStats(stmt);
+                System.out.println("  ✓ v6: tournament statistics added");
+            }
+            if (fromVersion >= 6 && fromVersion < 7) {
+                // The match triggers now bump the version and also fire on match_date; v6 created them without
+                stmt.execute("ALTER TABLE tournament_stats ADD COLUMN version INTEGER NOT NULL DEFAULT 0");
+                for (String trigger : new String[]{"matches_stats_bi", "matches_stats_ai", "matches_stats_ad", "matches_stats_au"}) {
+                    stmt.execute("DROP TRIGGER IF EXISTS " + trigger);
+                }
+                createTournamentStats(stmt);
+                System.out.println("  ✓ v7: tournament statistics versioned");
+            }
+        }
+        System.out.println("  ℹ Schema migrated v" + fromVersion + " → v" + toVersion);
     }
 
-    // Utility method to backup database
-    public static void backupDatabase(String backupPath) {
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement()) {
-            stmt.execute("BACKUP TO '" + backupPath + "'");
-            System.out.println("✅ Database backed up to: " + backupPath);
-        } catch (SQLException e) {
-            System.err.println("❌ Backup failed: " + e.getMessage());
+    // Supports keyset pagination on (match_date, id) per sport
+    private static void createMatchPagingIndex(Statement stmt) throws SQLException {
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_matches_sport_date_id " +
+                "ON matches (sport_id, match_date DESC, id DESC)");
+    }
+
+    // Local writes waiting to be pushed, and the last pulled server timestamp per table
+    private static void createSyncTables(Statement stmt) throws SQLException {
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS sync_outbox (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                table_name TEXT NOT NULL,
+                operation TEXT NOT NULL,
+                record_id INTEGER NOT NULL,
+                score1 INTEGER,
+                score2 INTEGER,
+                attempts INTEGER DEFAULT 0,
+                last_error TEXT,
+                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            )
+        """);
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS sync_state (
+                table_name TEXT PRIMARY KEY,
+                watermark TIMESTAMP,
+                last_pull_at TIMESTAMP
+            )
+        """);
+    }
+
+    // Same tables as the Supabase schema, so every DAO can run against SQLite (user ids are text)
+    private static void createAccountTables(Statement stmt) throws SQLException {
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS profiles (
+                id TEXT PRIMARY KEY,
+                username TEXT NOT NULL UNIQUE,
+                full_name TEXT NOT NULL,
+                email TEXT NOT NULL UNIQUE,
+                role TEXT DEFAULT 'player',
+                avatar_url TEXT,
+                phone TEXT,
+                is_active BOOLEAN DEFAULT 1,
+                last_login TIMESTAMP,
+                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            )
+        """);
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS user_credentials (
+                user_id TEXT PRIMARY KEY REFERENCES profiles(id) ON DELETE CASCADE,
+                password_hash TEXT NOT NULL,
+                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            )
+        """);
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS tournaments (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                name TEXT NOT NULL,
+                sport_id INTEGER NOT NULL REFERENCES sports(id) ON DELETE CASCADE,
+                tournament_type TEXT NOT NULL,
+                start_date DATE NOT NULL,
+                end_date DATE,
+                status TEXT DEFAULT 'upcoming',
+                description TEXT,
+                prize_money REAL DEFAULT 0,
+                winner_team_id INTEGER REFERENCES teams(id) ON DELETE SET NULL,
+                share_code TEXT UNIQUE,
+                created_by TEXT REFERENCES profiles(id) ON DELETE SET NULL,
+                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            )
+        """);
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS tournament_teams (
+                tournament_id INTEGER REFERENCES tournaments(id) ON DELETE CASCADE,
+                team_id INTEGER REFERENCES teams(id) ON DELETE CASCADE,
+                joined_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                PRIMARY KEY (tournament_id, team_id)
+            )
+        """);
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS tournament_members (
+                tournament_id INTEGER REFERENCES tournaments(id) ON DELETE CASCADE,
+                user_id TEXT REFERENCES profiles(id) ON DELETE CASCADE,
+                role TEXT DEFAULT 'viewer',
+                joined_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                PRIMARY KEY (tournament_id, user_id)
+            )
+        """);
+    }
+
+    // FTS5 indexes kept current by triggers: search_index for teams and tournaments
+    // (rowid = id * 4 + kind, so triggers find an entry by rowid) and match_search_index (rowid = match id),
+    // kept apart so a query for a common word doesn't walk a million match entries to rank a few teams.
+    private static void createSearchIndex(Statement stmt) throws SQLException {
+        stmt.execute("""
+            CREATE VIRTUAL TABLE IF NOT EXISTS search_index USING fts5(
+                kind UNINDEXED,
+                ref_id UNINDEXED,
+                sport_id UNINDEXED,
+                title,
+                detail,
+                tokenize = 'unicode61 remove_diacritics 2',
+                prefix = '2 3 4'
+            )
+        """);
+        stmt.execute("""
+            CREATE VIRTUAL TABLE IF NOT EXISTS match_search_index USING fts5(
+                sport_id UNINDEXED,
+                title,
+                detail,
+                tokenize = 'unicode61 remove_diacritics 2',
+                prefix = '2 3 4'
+            )
+        """);
+
+        // {table, index, rowid, kind + ref_id values, title, detail, columns that change the entry}
+        // INSERT OR REPLACE: the replica pulls rows with INSERT OR REPLACE, which skips delete triggers
+        String[][] sources = {
+                {"teams", "search_index", "new.id * 4 + 1", "'team', new.id, ", "new.name", "new.coach",
+                        "name, coach, sport_id, id"},
+                {"tournaments", "search_index", "new.id * 4 + 3", "'tournament', new.id, ", "new.name",
+                        "COALESCE(new.description, '')", "name, description, sport_id, id"},
+                {"matches", "match_search_index", "new.id", "", "new.team1_name || ' vs ' || new.team2_name",
+                        "new.location", "team1_name, team2_name, location, sport_id, id"}
+        };
+        for (String[] source : sources) {
+            String table = source[0];
+            String index = source[1];
+            String columns = index.equals("search_index") ? "rowid, kind, ref_id, sport_id, title, detail" : "rowid, sport_id, title, detail";
+            String insert = "INSERT OR REPLACE INTO " + index + " (" + columns + ") VALUES (" +
+                    source[2] + ", " + source[3] + "new.sport_id, " + source[4] + ", " + source[5] + ");";
+            String delete = "DELETE FROM " + index + " WHERE rowid = " + source[2].replace("new.", "old.") + ";";
+
+            stmt.execute("CREATE TRIGGER IF NOT EXISTS " + table + "_search_ai AFTER INSERT ON " + table +
+                    " BEGIN " + insert + " END");
+            stmt.execute("CREATE TRIGGER IF NOT EXISTS " + table + "_search_ad AFTER DELETE ON " + table +
+                    " BEGIN " + delete + " END");
+            stmt.execute("CREATE TRIGGER IF NOT EXISTS " + table + "_search_au AFTER UPDATE OF " + source[6] +
+                    " ON " + table + " BEGIN " + delete + " " + insert + " END");
         }
     }
 
-    // Utility method to log actions
+    // Fill the search indexes from existing rows (after a migration or a bulk load without triggers)
+    static void rebuildSearchIndex(Statement stmt) throws SQLException {
+        stmt.execute("DELETE FROM search_index");
+        stmt.execute("DELETE FROM match_search_index");
+        stmt.execute("INSERT INTO search_index (rowid, kind, ref_id, sport_id, title, detail) " +
+                "SELECT id * 4 + 1, 'team', id, sport_id, name, coach FROM teams");
+        stmt.execute("INSERT INTO search_index (rowid, kind, ref_id, sport_id, title, detail) " +
+                "SELECT id * 4 + 3, 'tournament', id, sport_id, name, COALESCE(description, '') FROM tournaments");
+        stmt.execute("INSERT INTO match_search_index (rowid, sport_id, title, detail) " +
+                "SELECT id, sport_id, team1_name || ' vs ' || team2_name, location FROM matches");
+    }
+
+    // Per-tournament counters kept current by triggers, so the stats dialog reads one row instead of counting.
+    // A match counts towards its tournament's match_count, and towards completed_count and total_goals once
+    // its status is 'Completed'. Every match change also bumps version, which keys TournamentDAO's round cache.
+    private static void createTournamentStats(Statement stmt) throws SQLException {
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS tournament_stats (
+                tournament_id INTEGER PRIMARY KEY,
+                team_count INTEGER NOT NULL DEFAULT 0,
+                match_count INTEGER NOT NULL DEFAULT 0,
+                completed_count INTEGER NOT NULL DEFAULT 0,
+                total_goals INTEGER NOT NULL DEFAULT 0,
+                version INTEGER NOT NULL DEFAULT 0
+            )
+        """);
+        // Per-round stats read a tournament's matches in date order; covering, so the pass never touches the table
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_matches_tournament_date " +
+                "ON matches (tournament_id, match_date, status, team1_score, team2_score)");
+
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS tournaments_stats_ai AFTER INSERT ON tournaments BEGIN " +
+                ensureStatsRow("new.id") + "END");
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS tournaments_stats_ad AFTER DELETE ON tournaments BEGIN " +
+                "DELETE FROM tournament_stats WHERE tournament_id = old.id; END");
+
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS tournament_teams_stats_ai AFTER INSERT ON tournament_teams BEGIN " +
+                ensureStatsRow("new.tournament_id") +
+                "UPDATE tournament_stats SET team_count = team_count + 1 WHERE tournament_id = new.tournament_id; END");
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS tournament_teams_stats_ad AFTER DELETE ON tournament_teams BEGIN " +
+                "UPDATE tournament_stats SET team_count = team_count - 1 WHERE tournament_id = old.tournament_id; END");
+
+        // The replica pulls matches with INSERT OR REPLACE, which removes the old row without a delete trigger,
+        // so take the replaced row's contribution back before the insert adds the new one
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS matches_stats_bi BEFORE INSERT ON matches BEGIN " +
+                "UPDATE tournament_stats SET " + matchContribution("-", "m") + " " +
+                "FROM (SELECT tournament_id, status, team1_score, team2_score FROM matches WHERE id = new.id) AS m " +
+                "WHERE tournament_stats.tournament_id = m.tournament_id; END");
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS matches_stats_ai AFTER INSERT ON matches BEGIN " +
+                ensureStatsRow("new.tournament_id") +
+                "UPDATE tournament_stats SET " + matchContribution("+", "new") + " WHERE tournament_id = new.tournament_id; END");
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS matches_stats_ad AFTER DELETE ON matches BEGIN " +
+                "UPDATE tournament_stats SET " + matchContribution("-", "old") + " WHERE tournament_id = old.tournament_id; END");
+        stmt.execute("CREATE TRIGGER IF NOT EXISTS matches_stats_au " +
+                "AFTER UPDATE OF tournament_id, match_date, status, team1_score, team2_score ON matches BEGIN " +
+                "UPDATE tournament_stats SET " + matchContribution("-", "old") + " WHERE tournament_id = old.tournament_id; " +
+                ensureStatsRow("new.tournament_id") +
+                "UPDATE tournament_stats SET " + matchContribution("+", "new") + " WHERE tournament_id = new.tournament_id; END");
+    }
+
+    // Not INSERT OR IGNORE: inside a trigger fired by INSERT OR REPLACE, the outer REPLACE would reset the row
+    private static String ensureStatsRow(String tournamentId) {
+        return "INSERT INTO tournament_stats (tournament_id) SELECT " + tournamentId + " WHERE " + tournamentId +
+                " IS NOT NULL AND NOT EXISTS (SELECT 1 FROM tournament_stats WHERE tournament_id = " + tournamentId + "); ";
+    }
+
+    // SET clause adding (+) or removing (-) one match row's share of the counters
+    private static String matchContribution(String sign, String row) {
+        String completed = "(" + row + ".status = 'Completed')";
+        return "version = version + 1, " +
+                "match_count = match_count " + sign + " 1, " +
+                "completed_count = completed_count " + sign + " " + completed + ", " +
+                "total_goals = total_goals " + sign + " CASE WHEN " + completed + " THEN " +
+                row + ".team1_score + " + row + ".team2_score ELSE 0 END";
+    }
+
+    // Recount every tournament's counters from the base tables (after a migration or a bulk load)
+    static void rebuildTournamentStats(Statement stmt) throws SQLException {
+        stmt.execute("DELETE FROM tournament_stats");
+        stmt.execute("""
+            INSERT INTO tournament_stats (tournament_id, team_count, match_count, completed_count, total_goals)
+            SELECT t.id,
+                   (SELECT COUNT(*) FROM tournament_teams tt WHERE tt.tournament_id = t.id),
+                   COALESCE(m.match_count, 0), COALESCE(m.completed_count, 0), COALESCE(m.total_goals, 0)
+            FROM tournaments t
+            LEFT JOIN (
+                SELECT tournament_id,
+                       COUNT(*) AS match_count,
+                       SUM(CASE WHEN status = 'Completed' THEN 1 ELSE 0 END) AS completed_count,
+                       SUM(CASE WHEN status = 'Completed' THEN team1_score + team2_score ELSE 0 END) AS total_goals
+                FROM matches
+                WHERE tournament_id IS NOT NULL
+                GROUP BY tournament_id
+            ) m ON m.tournament_id = t.id
+        """);
+    }
+
+    // Utility method to backup database (online copy on a background thread; see BackupManager)
+    public static CompletableFuture<Path> backupDatabase(String backupPath) {
+        return BackupManager.getInstance().backupTo(Paths.get(backupPath), null);
+    }
+
+    // Utility method to log actions (queued; written in batches by AuditLogWriter)
     public static void logAction(String action, String tableName, int recordId, String details) {
-        String sql = "INSERT INTO audit_log (action, table_name, record_id, details) VALUES (?, ?, ?, ?)";
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, action);
-            pstmt.setString(2, tableName);
-            pstmt.setInt(3, recordId);
-            pstmt.setString(4, details);
-            pstmt.executeUpdate();
-        } catch (SQLException e) {
-            System.err.println("Failed to log action: " + e.getMessage());
-        }
+        AuditLogWriter.getInstance().submit(action, tableName, recordId, details);
+    }
+
+    // Write queued audit events and stop the writer (call on application exit)
+    public static void shutdownAuditLog() {
+        AuditLogWriter.getInstance().shutdown();
     }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.sportsmanager.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Fire-and-forget writer for profiles.last_login
+ * Logins queue their user id; a background thread writes everything queued so far in one batch
+ */
+public class LastLoginUpdater {
+    private static LastLoginUpdater instance;
+
+    private static final String UPDATE_SQL = "UPDATE profiles SET last_login = CURRENT_TIMESTAMP WHERE id = ?";
+
+    private final Set<String> pending = new LinkedHashSet<>();
+    private Thread writer;
+
+    private LastLoginUpdater() {
+        // Private constructor for singleton
+    }
+
+    public static synchronized LastLoginUpdater getInstance() {
+        if (instance == null) {
+            instance = new LastLoginUpdater();
+        }
+        return instance;
+    }
+
+    /**
+     * Queue a last_login update; returns immediately
+     */
+    public synchronized void submit(String userId) {
+        pending.add(userId);
+        if (writer == null) {
+            writer = new Thread(this::drain, "last-login-writer");
+            writer.setDaemon(true);
+            writer.start();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Set<String> batch;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    writer = null;
+                    return;
+                }
+                batch = new LinkedHashSet<>(pending);
+                pending.clear();
+            }
+            writeBatch(batch);
+        }
+    }
+
+    private void writeBatch(Set<String> userIds) {
+        SqlDialect dialect = DataSources.dialect();
+        try (Connection conn = DataSources.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+
+            for (String userId : userIds) {
+                dialect.setUuid(pstmt, 1, userId);
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+            System.out.println("Last login updated for " + userIds.size() + " user(s)");
+        } catch (SQLException e) {
+            System.err.println("Failed to update last login: " + e.getMessage());
+        }
+    }
+}
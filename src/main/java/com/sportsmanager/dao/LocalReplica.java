@@ -0,0 +1,304 @@
+package com.sportsmanager.dao;
+
+import com.sportsmanager.util.ConfigManager;
+import com.sportsmanager.util.Log;
+
+import java.sql.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Offline-first replica of sports, teams and matches in the local SQLite database
+ * Once the first snapshot is pulled, reads are served locally and writes are applied
+ * locally plus queued in sync_outbox; ReplicaSyncWorker pushes and pulls in the background.
+ */
+public class LocalReplica {
+
+    // Columns copied between Supabase and the replica (id and updated_at are handled separately)
+    static final Map<String, String[]> COLUMNS = Map.of(
+            "sports", new String[]{"name", "scoring_type"},
+            "teams", new String[]{"name", "coach", "wins", "losses", "draws", "points",
+                    "goals_for", "goals_against", "sport_id"},
+            "matches", new String[]{"team1_name", "team2_name", "match_date", "location",
+                    "team1_score", "team2_score", "status", "sport_id"}
+    );
+
+    // Columns a local edit may push; team stats and match scores only change through results
+    static final Map<String, String[]> EDITABLE_COLUMNS = Map.of(
+            "sports", new String[]{"name", "scoring_type"},
+            "teams", new String[]{"name", "coach"},
+            "matches", new String[]{}
+    );
+
+    // What a pushed insert starts from on the server; results recorded before the push follow as RESULT entries
+    static final Map<String, Map<String, Object>> INSERT_RESULT_DEFAULTS = Map.of(
+            "sports", Map.of(),
+            "teams", Map.of("wins", 0, "losses", 0, "draws", 0, "points", 0, "goals_for", 0, "goals_against", 0),
+            "matches", Map.of("team1_score", 0, "team2_score", 0, "status", "Scheduled")
+    );
+
+    // Parents first so pushes and pulls respect foreign keys
+    static final String[] TABLES = {"sports", "teams", "matches"};
+
+    static final String INSERT = "INSERT";
+    static final String UPDATE = "UPDATE";
+    static final String DELETE = "DELETE";
+    static final String RESULT = "RESULT";
+
+    private static final Log log = Log.get(LocalReplica.class);
+    private static final boolean ENABLED = ConfigManager.getInstance().getBoolean("local.replica.enabled", false);
+    private static volatile boolean ready = false;
+    private static ReplicaSyncWorker worker;
+
+    /**
+     * Open the local database and start background sync (no-op unless local.replica.enabled)
+     */
+    public static synchronized void start() {
+        if (!ENABLED || worker != null) {
+            return;
+        }
+        if (DataSources.dialect() != SqlDialect.POSTGRESQL) {
+            log.info("Local replica skipped: the data source is already local");
+            return;
+        }
+
+        DatabaseConnection.initializeDatabase();
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            ready = hasSnapshot(conn);
+        } catch (SQLException e) {
+            log.error("Local replica unavailable: {}", e.getMessage());
+            return;
+        }
+
+        worker = new ReplicaSyncWorker();
+        worker.start();
+        log.info("Local replica {}", ready ? "ready" : "waiting for first sync");
+    }
+
+    /**
+     * Stop syncing (call on application exit)
+     */
+    public static synchronized void stop() {
+        if (worker != null) {
+            worker.stop();
+            worker = null;
+        }
+    }
+
+    /**
+     * True when reads and writes should go to the replica
+     */
+    public static boolean isActive() {
+        return ENABLED && ready;
+    }
+
+    static void markReady() {
+        ready = true;
+    }
+
+    /**
+     * Connection for sports/teams/matches reads: the replica when active, the configured data source otherwise
+     */
+    public static Connection getReadConnection() throws SQLException {
+        return isActive() ? DatabaseConnection.getConnection() : DataSources.getConnection();
+    }
+
+    /**
+     * Build an ordered column → value map for insert/update
+     */
+    public static Map<String, Object> values(Object... columnsAndValues) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < columnsAndValues.length; i += 2) {
+            values.put((String) columnsAndValues[i], columnsAndValues[i + 1]);
+        }
+        return values;
+    }
+
+    /**
+     * Insert locally under a temporary negative id; the real id is assigned when pushed
+     */
+    public static int insert(String table, Map<String, Object> values) throws SQLException {
+        return inTransaction(conn -> insert(conn, table, values));
+    }
+
+    static int insert(Connection conn, String table, Map<String, Object> values) throws SQLException {
+        int tempId;
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT MIN(id) FROM " + table)) {
+            tempId = Math.min(rs.next() ? rs.getInt(1) : 0, 0) - 1;
+        }
+
+        StringBuilder columns = new StringBuilder("id");
+        StringBuilder params = new StringBuilder("?");
+        for (String column : values.keySet()) {
+            columns.append(", ").append(column);
+            params.append(", ?");
+        }
+
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "INSERT INTO " + table + " (" + columns + ") VALUES (" + params + ")")) {
+            pstmt.setInt(1, tempId);
+            bindAll(pstmt, 2, values);
+            pstmt.executeUpdate();
+        }
+
+        enqueue(conn, table, INSERT, tempId, null, null);
+        return tempId;
+    }
+
+    /**
+     * Update locally and queue the row for push (one pending entry per row)
+     */
+    public static void update(String table, int id, Map<String, Object> values) throws SQLException {
+        inTransaction(conn -> {
+            StringBuilder assignments = new StringBuilder();
+            for (String column : values.keySet()) {
+                if (assignments.length() > 0) assignments.append(", ");
+                assignments.append(column).append(" = ?");
+            }
+
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "UPDATE " + table + " SET " + assignments + " WHERE id = ?")) {
+                int index = bindAll(pstmt, 1, values);
+                pstmt.setInt(index, id);
+                pstmt.executeUpdate();
+            }
+
+            // A pending insert or update already pushes the latest row state
+            if (!hasPending(conn, table, id, INSERT) && !hasPending(conn, table, id, UPDATE)) {
+                enqueue(conn, table, UPDATE, id, null, null);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Delete locally; rows never pushed are simply forgotten
+     */
+    public static void delete(String table, int id) throws SQLException {
+        inTransaction(conn -> {
+            boolean neverPushed = hasPending(conn, table, id, INSERT);
+
+            // Pending results on a pushed match still have to reach the server's standings
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "DELETE FROM sync_outbox WHERE table_name = ? AND record_id = ?" +
+                            (neverPushed ? "" : " AND operation <> '" + RESULT + "'"))) {
+                pstmt.setString(1, table);
+                pstmt.setInt(2, id);
+                pstmt.executeUpdate();
+            }
+            try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM " + table + " WHERE id = ?")) {
+                pstmt.setInt(1, id);
+                pstmt.executeUpdate();
+            }
+
+            if (!neverPushed) {
+                enqueue(conn, table, DELETE, id, null, null);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Record a result locally (same rules as MatchDAO) and queue it for push
+     */
+    public static boolean recordMatchResult(int matchId, int team1Score, int team2Score) throws SQLException {
+        return inTransaction(conn -> recordMatchResult(conn, matchId, team1Score, team2Score));
+    }
+
+    static boolean recordMatchResult(Connection conn, int matchId, int team1Score, int team2Score) throws SQLException {
+        boolean changed = MatchDAO.applyMatchResult(conn, matchId, team1Score, team2Score, false);
+        if (changed) {
+            enqueue(conn, "matches", RESULT, matchId, team1Score, team2Score);
+        }
+        return changed;
+    }
+
+    /**
+     * Get replica and sync status for display
+     */
+    public static String getStatus() {
+        if (!ENABLED) {
+            return "Local replica: disabled";
+        }
+        ReplicaSyncWorker current = worker;
+        return "Local replica: " + (ready ? "active" : "waiting for first sync")
+                + (current != null ? " | " + current.getStats() : "");
+    }
+
+    /**
+     * Ask the worker to sync now instead of waiting for the next interval
+     */
+    public static void requestSync() {
+        ReplicaSyncWorker current = worker;
+        if (current != null) {
+            current.requestSync();
+        }
+    }
+
+    static boolean hasSnapshot(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM sync_state WHERE watermark IS NOT NULL")) {
+            return rs.next() && rs.getInt(1) == TABLES.length;
+        }
+    }
+
+    static boolean hasPending(Connection conn, String table, int id, String operation) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT 1 FROM sync_outbox WHERE table_name = ? AND record_id = ? AND operation = ?")) {
+            pstmt.setString(1, table);
+            pstmt.setInt(2, id);
+            pstmt.setString(3, operation);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    static int bindAll(PreparedStatement pstmt, int index, Map<String, Object> values) throws SQLException {
+        for (Object value : values.values()) {
+            if (value instanceof Date date) {
+                pstmt.setDate(index++, date);
+            } else {
+                pstmt.setObject(index++, value);
+            }
+        }
+        return index;
+    }
+
+    private static void enqueue(Connection conn, String table, String operation, int recordId,
+                                Integer score1, Integer score2) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "INSERT INTO sync_outbox (table_name, operation, record_id, score1, score2) VALUES (?, ?, ?, ?, ?)")) {
+            pstmt.setString(1, table);
+            pstmt.setString(2, operation);
+            pstmt.setInt(3, recordId);
+            pstmt.setObject(4, score1);
+            pstmt.setObject(5, score2);
+            pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Work done inside one local transaction
+     */
+    @FunctionalInterface
+    private interface LocalWork<T> {
+        T run(Connection conn) throws SQLException;
+    }
+
+    private static <T> T inTransaction(LocalWork<T> work) throws SQLException {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                T result = work.run(conn);
+                conn.commit();
+                requestSync();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+}
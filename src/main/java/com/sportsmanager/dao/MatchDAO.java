@@ -1,10 +1,14 @@
 package com.sportsmanager.dao;
 
 import com.sportsmanager.model.Match;
+import com.sportsmanager.util.ConfigManager;
+import com.sportsmanager.util.Log;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import java.sql.*;
 import java.time.LocalDate;
+import java.util.Collections;
+import java.util.function.Consumer;
 
 /**
  * Data Access Object for Matches
@@ -12,11 +16,32 @@ import java.time.LocalDate;
  */
 public class MatchDAO {
 
+    private static final Log log = Log.get(MatchDAO.class);
+    private static final DaoMetrics metrics = DaoMetrics.get(MatchDAO.class);
+
+    private static final String MATCH_COLUMNS = "SELECT id, team1_name, team2_name, match_date, location, team1_score, " +
+            "team2_score, status, sport_id FROM matches ";
+
+    private final int fetchSize = ConfigManager.getInstance().getInt("db.fetch.size", 200);
+
     public void addMatch(Match match) throws SQLException {
+        if (LocalReplica.isActive()) {
+            LocalReplica.insert("matches", LocalReplica.values(
+                    "team1_name", match.getTeam1Name(), "team2_name", match.getTeam2Name(),
+                    "match_date", Date.valueOf(match.getMatchDate()), "location", match.getLocation(),
+                    "team1_score", match.getTeam1Score(), "team2_score", match.getTeam2Score(),
+                    "status", match.getStatus(), "sport_id", match.getSportId()));
+            if (log.isCallLogged()) {
+                log.info("Match added locally: {} vs {}", match.getTeam1Name(), match.getTeam2Name());
+            }
+            return;
+        }
+
         String sql = "INSERT INTO matches (team1_name, team2_name, match_date, location, " +
                 "team1_score, team2_score, status, sport_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("addMatch");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, match.getTeam1Name());
@@ -27,9 +52,11 @@ public class MatchDAO {
             pstmt.setInt(6, match.getTeam2Score());
             pstmt.setString(7, match.getStatus());
             pstmt.setInt(8, match.getSportId());
-            pstmt.executeUpdate();
+            call.update(pstmt);
 
-            System.out.println("✅ Match added: " + match.getTeam1Name() + " vs " + match.getTeam2Name());
+            if (log.isCallLogged()) {
+                log.info("Match added: {} vs {}", match.getTeam1Name(), match.getTeam2Name());
+            }
         }
     }
 
@@ -38,16 +65,21 @@ public class MatchDAO {
         String sql = "SELECT id, team1_name, team2_name, match_date, location, team1_score, " +
                 "team2_score, status, sport_id FROM matches ORDER BY match_date DESC";
 
-        try (Connection conn = SupabaseConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try (DaoMetrics.Call call = metrics.start("getAllMatches");
+             Connection conn = call.acquired(LocalReplica.getReadConnection());
+             Statement stmt = conn.createStatement()) {
 
-            while (rs.next()) {
+            stmt.setFetchSize(fetchSize);
+            ResultSet rs = call.query(stmt, sql);
+
+            while (call.next(rs)) {
                 Match match = createMatchFromResultSet(rs);
                 matches.add(match);
             }
 
-            System.out.println("✅ Loaded " + matches.size() + " matches");
+            if (log.isCallLogged()) {
+                log.info("Loaded {} matches", matches.size());
+            }
         }
 
         return matches;
@@ -58,18 +90,109 @@ public class MatchDAO {
         String sql = "SELECT id, team1_name, team2_name, match_date, location, team1_score, " +
                 "team2_score, status, sport_id FROM matches WHERE sport_id = ? ORDER BY match_date DESC";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("getMatchesBySport");
+             Connection conn = call.acquired(LocalReplica.getReadConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, sportId);
-            ResultSet rs = pstmt.executeQuery();
+            pstmt.setFetchSize(fetchSize);
+            ResultSet rs = call.query(pstmt);
 
-            while (rs.next()) {
+            while (call.next(rs)) {
                 Match match = createMatchFromResultSet(rs);
                 matches.add(match);
             }
 
-            System.out.println("✅ Loaded " + matches.size() + " matches for sport ID: " + sportId);
+            if (log.isCallLogged()) {
+                log.info("Loaded {} matches for sport {}", matches.size(), sportId);
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * Get one page of matches, newest first, using keyset pagination on (match_date, id).
+     * Pass the last match of the previous page as {@code after}, or null for the first page.
+     */
+    public ObservableList<Match> getMatchesPage(int sportId, Match after, int pageSize) throws SQLException {
+        String sql = MATCH_COLUMNS + "WHERE sport_id = ? " +
+                (after != null ? "AND (match_date, id) < (?, ?) " : "") +
+                "ORDER BY match_date DESC, id DESC LIMIT ?";
+
+        ObservableList<Match> matches = queryPage("getMatchesPage", sql, sportId, after, pageSize);
+        if (log.isCallLogged()) {
+            log.info("Loaded page of {} matches for sport {}", matches.size(), sportId);
+        }
+        return matches;
+    }
+
+    /**
+     * Get the page of matches just newer than {@code before}, still ordered newest first
+     */
+    public ObservableList<Match> getMatchesPageBefore(int sportId, Match before, int pageSize) throws SQLException {
+        String sql = MATCH_COLUMNS + "WHERE sport_id = ? AND (match_date, id) > (?, ?) " +
+                "ORDER BY match_date ASC, id ASC LIMIT ?";
+
+        ObservableList<Match> matches = queryPage("getMatchesPageBefore", sql, sportId, before, pageSize);
+        Collections.reverse(matches);
+        if (log.isCallLogged()) {
+            log.info("Loaded previous page of {} matches for sport {}", matches.size(), sportId);
+        }
+        return matches;
+    }
+
+    /**
+     * Stream every match of a sport, newest first, without materializing the whole list.
+     * Rows are fetched from the server in batches of db.fetch.size.
+     */
+    public int forEachMatchBySport(int sportId, Consumer<Match> consumer) throws SQLException {
+        String sql = MATCH_COLUMNS + "WHERE sport_id = ? ORDER BY match_date DESC, id DESC";
+        int count = 0;
+
+        try (DaoMetrics.Call call = metrics.start("forEachMatchBySport");
+             Connection conn = call.acquired(LocalReplica.getReadConnection())) {
+            // PostgreSQL only honours the fetch size inside a transaction
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setInt(1, sportId);
+                pstmt.setFetchSize(fetchSize);
+                ResultSet rs = call.query(pstmt);
+
+                while (call.next(rs)) {
+                    consumer.accept(createMatchFromResultSet(rs));
+                    count++;
+                }
+                conn.commit();
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+
+        return count;
+    }
+
+    private ObservableList<Match> queryPage(String method, String sql, int sportId, Match cursor,
+                                            int pageSize) throws SQLException {
+        ObservableList<Match> matches = FXCollections.observableArrayList();
+
+        try (DaoMetrics.Call call = metrics.start(method);
+             Connection conn = call.acquired(LocalReplica.getReadConnection());
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            pstmt.setInt(index++, sportId);
+            if (cursor != null) {
+                pstmt.setDate(index++, Date.valueOf(cursor.getMatchDate()));
+                pstmt.setInt(index++, cursor.getId());
+            }
+            pstmt.setInt(index, pageSize);
+            pstmt.setFetchSize(Math.min(pageSize, fetchSize));
+
+            ResultSet rs = call.query(pstmt);
+            while (call.next(rs)) {
+                matches.add(createMatchFromResultSet(rs));
+            }
         }
 
         return matches;
@@ -78,32 +201,136 @@ public class MatchDAO {
     public void updateMatchResult(int matchId, int team1Score, int team2Score) throws SQLException {
         String sql = "UPDATE matches SET team1_score = ?, team2_score = ?, status = 'Completed' WHERE id = ?";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("updateMatchResult");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, team1Score);
             pstmt.setInt(2, team2Score);
             pstmt.setInt(3, matchId);
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = call.update(pstmt);
 
-            System.out.println("✅ Match result updated (ID: " + matchId + ", rows: " + rowsAffected + ")");
+            if (log.isCallLogged()) {
+                log.info("Match result updated (id {}, rows {})", matchId, rowsAffected);
+            }
+        }
+    }
+
+    /**
+     * Record a match result and update both teams' standings in one transaction.
+     * Safe to retry: returns false when the same result is already recorded.
+     * Recording a different score for a completed match reverses the old result first.
+     */
+    public boolean recordMatchResult(int matchId, int team1Score, int team2Score) throws SQLException {
+        if (LocalReplica.isActive()) {
+            return LocalReplica.recordMatchResult(matchId, team1Score, team2Score);
+        }
+
+        boolean lockRow = DataSources.dialect().supportsRowLocks();
+        try (DaoMetrics.Call call = metrics.start("recordMatchResult");
+             Connection conn = call.acquired(DataSources.getConnection())) {
+            return call.execute(() -> recordMatchResult(conn, matchId, team1Score, team2Score, lockRow));
+        }
+    }
+
+    /**
+     * Run applyMatchResult in its own transaction on the given connection
+     */
+    static boolean recordMatchResult(Connection conn, int matchId, int team1Score, int team2Score,
+                                     boolean lockRow) throws SQLException {
+        conn.setAutoCommit(false);
+        try {
+            boolean changed = applyMatchResult(conn, matchId, team1Score, team2Score, lockRow);
+            conn.commit();
+            return changed;
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Update the match and both teams inside the caller's transaction.
+     * lockRow adds FOR UPDATE (PostgreSQL); SQLite already serializes writers.
+     */
+    static boolean applyMatchResult(Connection conn, int matchId, int team1Score, int team2Score,
+                                    boolean lockRow) throws SQLException {
+        String selectSql = "SELECT team1_name, team2_name, team1_score, team2_score, status, sport_id " +
+                "FROM matches WHERE id = ?" + (lockRow ? " FOR UPDATE" : "");
+        String updateSql = "UPDATE matches SET team1_score = ?, team2_score = ?, status = 'Completed' WHERE id = ?";
+
+        try (PreparedStatement select = conn.prepareStatement(selectSql);
+             PreparedStatement updateMatch = conn.prepareStatement(updateSql);
+             PreparedStatement updateTeams = conn.prepareStatement(TeamDAO.APPLY_RESULT_SQL)) {
+
+            select.setInt(1, matchId);
+            ResultSet rs = select.executeQuery();
+            if (!rs.next()) {
+                throw new SQLException("Match not found (ID: " + matchId + ")");
+            }
+
+            String team1 = rs.getString("team1_name");
+            String team2 = rs.getString("team2_name");
+            int sportId = rs.getInt("sport_id");
+            boolean completed = "Completed".equals(rs.getString("status"));
+            int oldScore1 = rs.getInt("team1_score");
+            int oldScore2 = rs.getInt("team2_score");
+
+            if (completed && oldScore1 == team1Score && oldScore2 == team2Score) {
+                if (log.isCallLogged()) {
+                    log.info("Match result already recorded (id {})", matchId);
+                }
+                return false;
+            }
+
+            if (completed) {
+                TeamDAO.addResultToBatch(updateTeams, team1, sportId, oldScore1, oldScore2, -1);
+                TeamDAO.addResultToBatch(updateTeams, team2, sportId, oldScore2, oldScore1, -1);
+            }
+            TeamDAO.addResultToBatch(updateTeams, team1, sportId, team1Score, team2Score, 1);
+            TeamDAO.addResultToBatch(updateTeams, team2, sportId, team2Score, team1Score, 1);
+
+            updateMatch.setInt(1, team1Score);
+            updateMatch.setInt(2, team2Score);
+            updateMatch.setInt(3, matchId);
+            updateMatch.executeUpdate();
+            updateTeams.executeBatch();
+
+            if (log.isCallLogged()) {
+                log.info("Match result recorded (id {}, {} {} - {} {})", matchId, team1, team1Score, team2Score, team2);
+            }
+            return true;
         }
     }
 
     public void deleteMatch(int matchId) throws SQLException {
+        if (LocalReplica.isActive()) {
+            LocalReplica.delete("matches", matchId);
+            if (log.isCallLogged()) {
+                log.info("Match deleted locally (id {})", matchId);
+            }
+            return;
+        }
+
         String sql = "DELETE FROM matches WHERE id = ?";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("deleteMatch");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, matchId);
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = call.update(pstmt);
 
-            System.out.println("✅ Match deleted (rows affected: " + rowsAffected + ")");
+            if (log.isCallLogged()) {
+                log.info("Match deleted (rows {})", rowsAffected);
+            }
         }
     }
 
-    private Match createMatchFromResultSet(ResultSet rs) throws SQLException {
+    // Package-private for the row-mapping benchmarks
+    Match createMatchFromResultSet(ResultSet rs) throws SQLException {
         return new Match(
                 rs.getInt("id"),
                 rs.getString("team1_name"),
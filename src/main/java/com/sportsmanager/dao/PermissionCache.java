@@ -0,0 +1,136 @@
+package com.sportsmanager.dao;
+
+import com.sportsmanager.model.User;
+import com.sportsmanager.util.ConfigManager;
+import com.sportsmanager.util.Log;
+import com.sportsmanager.util.SessionManager;
+
+import java.sql.*;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-session cache of the logged-in user's tournament roles and ownership
+ * Loaded with one query, refreshed after a TTL and dropped on any membership change
+ */
+public class PermissionCache {
+    private static final Log log = Log.get(PermissionCache.class);
+    private static PermissionCache instance;
+
+    private final long ttlMs;
+    private String userId;
+    private long loadedAt;
+    private Map<Integer, String> rolesByTournament = new HashMap<>();
+    private Set<Integer> ownedTournaments = new HashSet<>();
+
+    // Metrics
+    private long hits;
+    private long loads;
+
+    private PermissionCache() {
+        this.ttlMs = ConfigManager.getInstance().getInt("permissions.cache.ttl.seconds", 60) * 1000L;
+    }
+
+    public static synchronized PermissionCache getInstance() {
+        if (instance == null) {
+            instance = new PermissionCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Check whether lookups for this user can be answered from the cache
+     */
+    public boolean isSessionUser(String userId) {
+        User current = SessionManager.getInstance().getCurrentUser();
+        return current != null && userId != null && userId.equals(current.getId());
+    }
+
+    /**
+     * Get the session user's role in a tournament, or null if not a member
+     */
+    public synchronized String getRole(int tournamentId) throws SQLException {
+        ensureLoaded();
+        return rolesByTournament.get(tournamentId);
+    }
+
+    /**
+     * Check if the session user created the tournament
+     */
+    public synchronized boolean isOwner(int tournamentId) throws SQLException {
+        ensureLoaded();
+        return ownedTournaments.contains(tournamentId);
+    }
+
+    /**
+     * Drop cached permissions so the next check reloads them
+     */
+    public synchronized void invalidate() {
+        userId = null;
+        loadedAt = 0;
+    }
+
+    /**
+     * Get cache metrics for display
+     */
+    public synchronized String getStats() {
+        return String.format("Permission cache: %d hits, %d loads, %d memberships, %d owned",
+                hits, loads, rolesByTournament.size(), ownedTournaments.size());
+    }
+
+    private void ensureLoaded() throws SQLException {
+        User current = SessionManager.getInstance().getCurrentUser();
+        if (current == null) {
+            throw new SQLException("No user is logged in");
+        }
+
+        long now = System.currentTimeMillis();
+        if (current.getId().equals(userId) && now - loadedAt < ttlMs) {
+            hits++;
+            return;
+        }
+
+        load(current.getId());
+        userId = current.getId();
+        loadedAt = now;
+        loads++;
+    }
+
+    private void load(String userId) throws SQLException {
+        String sql = "SELECT t.id, t.created_by = ? AS is_owner, tm.role " +
+                "FROM tournaments t " +
+                "LEFT JOIN tournament_members tm ON tm.tournament_id = t.id AND tm.user_id = ? " +
+                "WHERE t.created_by = ? OR tm.user_id IS NOT NULL";
+
+        Map<Integer, String> roles = new HashMap<>();
+        Set<Integer> owned = new HashSet<>();
+
+        SqlDialect dialect = DataSources.dialect();
+        try (Connection conn = DataSources.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            dialect.setUuid(pstmt, 1, userId);
+            dialect.setUuid(pstmt, 2, userId);
+            dialect.setUuid(pstmt, 3, userId);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    int tournamentId = rs.getInt("id");
+                    if (rs.getBoolean("is_owner")) {
+                        owned.add(tournamentId);
+                    }
+                    String role = rs.getString("role");
+                    if (role != null) {
+                        roles.put(tournamentId, role);
+                    }
+                }
+            }
+        }
+
+        rolesByTournament = roles;
+        ownedTournaments = owned;
+        log.info("Loaded permissions: {} memberships, {} owned tournaments", roles.size(), owned.size());
+    }
+}
@@ -0,0 +1,561 @@
+package com.sportsmanager.dao;
+
+import com.sportsmanager.util.ConfigManager;
+import com.sportsmanager.util.Log;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Background push/pull between the local replica and Supabase
+ * Push replays sync_outbox in order; pull copies rows changed since each table's updated_at watermark.
+ * An edit whose server row changed after the local copy was pulled is a conflict: the server version wins.
+ */
+class ReplicaSyncWorker {
+
+    private static final Log log = Log.get(ReplicaSyncWorker.class);
+
+    // Re-read rows just below the watermark; transactions can commit with slightly older timestamps
+    private static final long PULL_OVERLAP_MS = 5000;
+    private static final int MAX_PUSH_ATTEMPTS = 5;
+
+    private final long intervalSeconds = ConfigManager.getInstance().getInt("sync.interval.seconds", 30);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean syncQueued = new AtomicBoolean(false);
+
+    private volatile boolean online = true;
+    private volatile long lastSyncAt = 0;
+    private volatile int pendingCount = 0;
+    private volatile String lastError;
+
+    // Metrics
+    private final LongAdder pushedCount = new LongAdder();
+    private final LongAdder pulledCount = new LongAdder();
+    private final LongAdder conflictCount = new LongAdder();
+
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::syncOnce, 0, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    void requestSync() {
+        if (!syncQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduler.execute(() -> {
+                syncQueued.set(false);
+                syncOnce();
+            });
+        } catch (RejectedExecutionException e) {
+            syncQueued.set(false);
+        }
+    }
+
+    String getStats() {
+        return String.format("%s, %d pending, pushed %d, pulled %d, conflicts %d, last sync %s%s",
+                online ? "online" : "offline", pendingCount, pushedCount.sum(), pulledCount.sum(),
+                conflictCount.sum(),
+                lastSyncAt == 0 ? "never" : ((System.currentTimeMillis() - lastSyncAt) / 1000) + "s ago",
+                lastError != null ? " (" + lastError + ")" : "");
+    }
+
+    private void syncOnce() {
+        try (Connection local = DatabaseConnection.getConnection();
+             Connection remote = SupabaseConnection.getConnection()) {
+
+            int pushed = push(local, remote);
+            int pulled = 0;
+            for (String table : LocalReplica.TABLES) {
+                int changed = pull(local, remote, table) + reconcileDeletes(local, remote, table);
+                if (changed > 0 && table.equals("sports")) {
+                    SportDAO.invalidateCache();
+                }
+                pulled += changed;
+            }
+
+            if (!LocalReplica.isActive() && LocalReplica.hasSnapshot(local)) {
+                LocalReplica.markReady();
+                log.info("Local replica ready - reads are now served locally");
+            }
+
+            if (!online) {
+                log.info("Back online - replica synced");
+            }
+            online = true;
+            lastError = null;
+            lastSyncAt = System.currentTimeMillis();
+            pendingCount = countPending(local);
+
+            if (pushed > 0 || pulled > 0) {
+                log.info("Replica sync: pushed {}, pulled {} row(s)", pushed, pulled);
+            }
+
+        } catch (SQLException e) {
+            lastError = e.getMessage();
+            if (online) {
+                log.warn("Replica sync offline, will retry: {}", e.getMessage());
+            }
+            online = false;
+        } catch (RuntimeException e) {
+            // Keep the schedule alive; an escaped exception would cancel it
+            lastError = e.getMessage();
+            log.error("Replica sync failed", e);
+        }
+    }
+
+    // ============================================
+    // PUSH
+    // ============================================
+
+    int push(Connection local, Connection remote) throws SQLException {
+        List<OutboxEntry> entries = new ArrayList<>();
+        try (Statement stmt = local.createStatement();
+             ResultSet rs = stmt.executeQuery(
+                     "SELECT id, table_name, operation, record_id, score1, score2, attempts FROM sync_outbox ORDER BY id")) {
+            while (rs.next()) {
+                entries.add(new OutboxEntry(rs.getInt("id"), rs.getString("table_name"), rs.getString("operation"),
+                        rs.getInt("record_id"), rs.getInt("score1"), rs.getInt("score2"), rs.getInt("attempts")));
+            }
+        }
+
+        int pushed = 0;
+        for (OutboxEntry entry : entries) {
+            // Earlier inserts in this run may have remapped the record id
+            entry.recordId = currentRecordId(local, entry);
+            if (entry.recordId == null) {
+                continue;
+            }
+
+            try {
+                pushEntry(local, remote, entry);
+                removeEntry(local, entry.id);
+                pushedCount.increment();
+                pushed++;
+            } catch (SQLException e) {
+                if (isConnectionError(e) || !remote.isValid(2)) {
+                    throw e;
+                }
+                rejectEntry(local, remote, entry, e);
+            }
+        }
+        return pushed;
+    }
+
+    private void pushEntry(Connection local, Connection remote, OutboxEntry entry) throws SQLException {
+        switch (entry.operation) {
+            case LocalReplica.INSERT -> pushInsert(local, remote, entry);
+            case LocalReplica.UPDATE -> pushUpdate(local, remote, entry);
+            case LocalReplica.DELETE -> {
+                try (PreparedStatement pstmt = remote.prepareStatement("DELETE FROM " + entry.table + " WHERE id = ?")) {
+                    pstmt.setInt(1, entry.recordId);
+                    pstmt.executeUpdate();
+                }
+            }
+            case LocalReplica.RESULT ->
+                    MatchDAO.recordMatchResult(remote, entry.recordId, entry.score1, entry.score2,
+                            SqlDialect.of(remote).supportsRowLocks());
+            default -> throw new SQLException("Unknown outbox operation: " + entry.operation);
+        }
+    }
+
+    /**
+     * Create the row on the server without its results; the queued RESULT entries apply those,
+     * so copying the local scores and team stats as well would count every result twice
+     */
+    private void pushInsert(Connection local, Connection remote, OutboxEntry entry) throws SQLException {
+        String[] columns = LocalReplica.COLUMNS.get(entry.table);
+        Map<String, Object> defaults = LocalReplica.INSERT_RESULT_DEFAULTS.get(entry.table);
+
+        try (PreparedStatement select = local.prepareStatement(
+                "SELECT " + String.join(", ", columns) + " FROM " + entry.table + " WHERE id = ?")) {
+            select.setInt(1, entry.recordId);
+            ResultSet row = select.executeQuery();
+            if (!row.next()) {
+                return;
+            }
+
+            String sql = "INSERT INTO " + entry.table + " (" + String.join(", ", columns) + ") VALUES ("
+                    + "?, ".repeat(columns.length - 1) + "?) RETURNING id, updated_at";
+            try (PreparedStatement insert = remote.prepareStatement(sql)) {
+                for (int i = 0; i < columns.length; i++) {
+                    if (defaults.containsKey(columns[i])) {
+                        insert.setObject(i + 1, defaults.get(columns[i]));
+                    } else {
+                        copyValue(row, insert, i + 1, columns[i]);
+                    }
+                }
+                ResultSet created = insert.executeQuery();
+                created.next();
+                remapId(local, entry.table, entry.recordId, created.getInt("id"), created.getTimestamp("updated_at"));
+            }
+        }
+    }
+
+    private void pushUpdate(Connection local, Connection remote, OutboxEntry entry) throws SQLException {
+        String[] columns = LocalReplica.EDITABLE_COLUMNS.get(entry.table);
+        if (columns.length == 0) {
+            return;
+        }
+
+        try (PreparedStatement select = local.prepareStatement(
+                "SELECT " + String.join(", ", columns) + ", updated_at FROM " + entry.table + " WHERE id = ?")) {
+            select.setInt(1, entry.recordId);
+            ResultSet row = select.executeQuery();
+            if (!row.next()) {
+                return;
+            }
+
+            // Only apply if the server row hasn't changed since we pulled it
+            Timestamp base = row.getTimestamp("updated_at");
+            String sql = "UPDATE " + entry.table + " SET " + String.join(" = ?, ", columns) + " = ? " +
+                    "WHERE id = ? AND (?::timestamp IS NULL OR updated_at IS NULL OR updated_at <= ?) " +
+                    "RETURNING updated_at";
+            try (PreparedStatement update = remote.prepareStatement(sql)) {
+                int index = 1;
+                for (String column : columns) {
+                    copyValue(row, update, index++, column);
+                }
+                update.setInt(index++, entry.recordId);
+                update.setTimestamp(index++, base);
+                update.setTimestamp(index, base);
+
+                ResultSet updated = update.executeQuery();
+                if (updated.next()) {
+                    setLocalUpdatedAt(local, entry.table, entry.recordId, updated.getTimestamp(1));
+                } else {
+                    conflictCount.increment();
+                    log.warn("Sync conflict on {} #{}: changed on the server since last pull, keeping server version",
+                            entry.table, entry.recordId);
+                    refreshRow(local, remote, entry.table, entry.recordId);
+                }
+            }
+        }
+    }
+
+    private void rejectEntry(Connection local, Connection remote, OutboxEntry entry, SQLException e) throws SQLException {
+        if (entry.attempts + 1 >= MAX_PUSH_ATTEMPTS) {
+            log.error("Dropping {} on {} #{} after {} rejected attempts: {}",
+                    entry.operation, entry.table, entry.recordId, MAX_PUSH_ATTEMPTS, e.getMessage());
+            removeEntry(local, entry.id);
+            if (entry.recordId > 0) {
+                refreshRow(local, remote, entry.table, entry.recordId);
+            }
+            return;
+        }
+
+        try (PreparedStatement pstmt = local.prepareStatement(
+                "UPDATE sync_outbox SET attempts = attempts + 1, last_error = ? WHERE id = ?")) {
+            pstmt.setString(1, e.getMessage());
+            pstmt.setInt(2, entry.id);
+            pstmt.executeUpdate();
+        }
+        log.warn("Server rejected {} on {}: {}", entry.operation, entry.table, e.getMessage());
+    }
+
+    /**
+     * Swap a temporary local id for the server-assigned one everywhere it is referenced
+     */
+    private void remapId(Connection local, String table, int tempId, int newId, Timestamp updatedAt) throws SQLException {
+        local.setAutoCommit(false);
+        try {
+            try (PreparedStatement pstmt = local.prepareStatement(
+                    "UPDATE " + table + " SET id = ?, updated_at = ? WHERE id = ?")) {
+                pstmt.setInt(1, newId);
+                pstmt.setTimestamp(2, updatedAt);
+                pstmt.setInt(3, tempId);
+                pstmt.executeUpdate();
+            }
+            if (table.equals("sports")) {
+                for (String child : new String[]{"teams", "matches"}) {
+                    try (PreparedStatement pstmt = local.prepareStatement(
+                            "UPDATE " + child + " SET sport_id = ? WHERE sport_id = ?")) {
+                        pstmt.setInt(1, newId);
+                        pstmt.setInt(2, tempId);
+                        pstmt.executeUpdate();
+                    }
+                }
+            }
+            try (PreparedStatement pstmt = local.prepareStatement(
+                    "UPDATE sync_outbox SET record_id = ? WHERE table_name = ? AND record_id = ?")) {
+                pstmt.setInt(1, newId);
+                pstmt.setString(2, table);
+                pstmt.setInt(3, tempId);
+                pstmt.executeUpdate();
+            }
+            local.commit();
+        } catch (SQLException | RuntimeException e) {
+            local.rollback();
+            throw e;
+        } finally {
+            local.setAutoCommit(true);
+        }
+    }
+
+    // ============================================
+    // PULL
+    // ============================================
+
+    private int pull(Connection local, Connection remote, String table) throws SQLException {
+        String[] columns = LocalReplica.COLUMNS.get(table);
+        Timestamp watermark = readWatermark(local, table);
+        boolean snapshot = watermark == null;
+        Set<Integer> pending = pendingIds(local, table);
+
+        String select = "SELECT id, " + String.join(", ", columns) + ", updated_at FROM " + table +
+                (snapshot ? "" : " WHERE updated_at >= ?") + " ORDER BY updated_at";
+        String upsert = "INSERT OR REPLACE INTO " + table + " (id, " + String.join(", ", columns) + ", updated_at) " +
+                "VALUES (?, " + "?, ".repeat(columns.length) + "?)";
+
+        int changed = 0;
+        Timestamp newest = watermark;
+        remote.setAutoCommit(false);
+        local.setAutoCommit(false);
+        try (PreparedStatement query = remote.prepareStatement(select);
+             PreparedStatement write = local.prepareStatement(upsert)) {
+
+            if (snapshot) {
+                try (Statement stmt = local.createStatement()) {
+                    stmt.executeUpdate("DELETE FROM " + table);
+                }
+            } else {
+                query.setTimestamp(1, new Timestamp(watermark.getTime() - PULL_OVERLAP_MS));
+            }
+            query.setFetchSize(500);
+
+            ResultSet rs = query.executeQuery();
+            while (rs.next()) {
+                int id = rs.getInt("id");
+                Timestamp updatedAt = rs.getTimestamp("updated_at");
+                if (updatedAt != null && (newest == null || updatedAt.after(newest))) {
+                    newest = updatedAt;
+                }
+                // Local edits waiting to be pushed win until the push settles them
+                if (pending.contains(id)) {
+                    continue;
+                }
+
+                write.setInt(1, id);
+                for (int i = 0; i < columns.length; i++) {
+                    copyValue(rs, write, i + 2, columns[i]);
+                }
+                write.setTimestamp(columns.length + 2, updatedAt);
+                write.addBatch();
+
+                // Rows in the overlap window are rewritten but only count once
+                if (snapshot || updatedAt == null || updatedAt.after(watermark)) {
+                    changed++;
+                }
+            }
+            write.executeBatch();
+
+            // An empty table still counts as a completed snapshot
+            writeWatermark(local, table, newest != null ? newest : new Timestamp(0));
+            local.commit();
+            remote.commit();
+            pulledCount.add(changed);
+            return changed;
+
+        } catch (SQLException | RuntimeException e) {
+            local.rollback();
+            remote.rollback();
+            throw e;
+        } finally {
+            local.setAutoCommit(true);
+            remote.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Remove local rows deleted on the server; only runs when the row counts disagree
+     */
+    private int reconcileDeletes(Connection local, Connection remote, String table) throws SQLException {
+        int remoteCount = count(remote, "SELECT COUNT(*) FROM " + table);
+        int localCount = count(local, "SELECT COUNT(*) FROM " + table + " WHERE id > 0");
+        if (remoteCount == localCount) {
+            return 0;
+        }
+
+        Set<Integer> remoteIds = new HashSet<>();
+        try (Statement stmt = remote.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT id FROM " + table)) {
+            while (rs.next()) {
+                remoteIds.add(rs.getInt(1));
+            }
+        }
+
+        Set<Integer> pending = pendingIds(local, table);
+        int deleted = 0;
+        try (Statement stmt = local.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT id FROM " + table + " WHERE id > 0");
+             PreparedStatement delete = local.prepareStatement("DELETE FROM " + table + " WHERE id = ?")) {
+            while (rs.next()) {
+                int id = rs.getInt(1);
+                if (!remoteIds.contains(id) && !pending.contains(id)) {
+                    delete.setInt(1, id);
+                    delete.addBatch();
+                    deleted++;
+                }
+            }
+            if (deleted > 0) {
+                delete.executeBatch();
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Overwrite one local row with the server copy (or delete it if the server has none)
+     */
+    private void refreshRow(Connection local, Connection remote, String table, int id) throws SQLException {
+        String[] columns = LocalReplica.COLUMNS.get(table);
+        try (PreparedStatement select = remote.prepareStatement(
+                "SELECT " + String.join(", ", columns) + ", updated_at FROM " + table + " WHERE id = ?")) {
+            select.setInt(1, id);
+            ResultSet rs = select.executeQuery();
+
+            if (!rs.next()) {
+                try (PreparedStatement delete = local.prepareStatement("DELETE FROM " + table + " WHERE id = ?")) {
+                    delete.setInt(1, id);
+                    delete.executeUpdate();
+                }
+                return;
+            }
+
+            try (PreparedStatement write = local.prepareStatement(
+                    "INSERT OR REPLACE INTO " + table + " (id, " + String.join(", ", columns) + ", updated_at) " +
+                            "VALUES (?, " + "?, ".repeat(columns.length) + "?)")) {
+                write.setInt(1, id);
+                for (int i = 0; i < columns.length; i++) {
+                    copyValue(rs, write, i + 2, columns[i]);
+                }
+                write.setTimestamp(columns.length + 2, rs.getTimestamp("updated_at"));
+                write.executeUpdate();
+            }
+        }
+    }
+
+    // ============================================
+    // HELPERS
+    // ============================================
+
+    private static void copyValue(ResultSet from, PreparedStatement to, int index, String column) throws SQLException {
+        if (column.equals("match_date")) {
+            to.setDate(index, from.getDate(column));
+        } else {
+            to.setObject(index, from.getObject(column));
+        }
+    }
+
+    private Integer currentRecordId(Connection local, OutboxEntry entry) throws SQLException {
+        try (PreparedStatement pstmt = local.prepareStatement("SELECT record_id FROM sync_outbox WHERE id = ?")) {
+            pstmt.setInt(1, entry.id);
+            ResultSet rs = pstmt.executeQuery();
+            return rs.next() ? rs.getInt(1) : null;
+        }
+    }
+
+    private void removeEntry(Connection local, int entryId) throws SQLException {
+        try (PreparedStatement pstmt = local.prepareStatement("DELETE FROM sync_outbox WHERE id = ?")) {
+            pstmt.setInt(1, entryId);
+            pstmt.executeUpdate();
+        }
+    }
+
+    private void setLocalUpdatedAt(Connection local, String table, int id, Timestamp updatedAt) throws SQLException {
+        try (PreparedStatement pstmt = local.prepareStatement("UPDATE " + table + " SET updated_at = ? WHERE id = ?")) {
+            pstmt.setTimestamp(1, updatedAt);
+            pstmt.setInt(2, id);
+            pstmt.executeUpdate();
+        }
+    }
+
+    private Set<Integer> pendingIds(Connection local, String table) throws SQLException {
+        Set<Integer> ids = new HashSet<>();
+        try (PreparedStatement pstmt = local.prepareStatement(
+                "SELECT record_id FROM sync_outbox WHERE table_name = ?")) {
+            pstmt.setString(1, table);
+            ResultSet rs = pstmt.executeQuery();
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+        }
+        return ids;
+    }
+
+    private Timestamp readWatermark(Connection local, String table) throws SQLException {
+        try (PreparedStatement pstmt = local.prepareStatement("SELECT watermark FROM sync_state WHERE table_name = ?")) {
+            pstmt.setString(1, table);
+            ResultSet rs = pstmt.executeQuery();
+            return rs.next() ? rs.getTimestamp(1) : null;
+        }
+    }
+
+    private void writeWatermark(Connection local, String table, Timestamp watermark) throws SQLException {
+        try (PreparedStatement pstmt = local.prepareStatement(
+                "INSERT OR REPLACE INTO sync_state (table_name, watermark, last_pull_at) VALUES (?, ?, ?)")) {
+            pstmt.setString(1, table);
+            pstmt.setTimestamp(2, watermark);
+            pstmt.setTimestamp(3, new Timestamp(System.currentTimeMillis()));
+            pstmt.executeUpdate();
+        }
+    }
+
+    private int countPending(Connection local) throws SQLException {
+        return count(local, "SELECT COUNT(*) FROM sync_outbox");
+    }
+
+    private static int count(Connection conn, String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private static boolean isConnectionError(SQLException e) {
+        // SQLSTATE class 08 = connection exception
+        String state = e.getSQLState();
+        return state != null && state.startsWith("08");
+    }
+
+    /**
+     * One queued local write
+     */
+    private static final class OutboxEntry {
+        private final int id;
+        private final String table;
+        private final String operation;
+        private Integer recordId;
+        private final int score1;
+        private final int score2;
+        private final int attempts;
+
+        private OutboxEntry(int id, String table, String operation, int recordId,
+                            int score1, int score2, int attempts) {
+            this.id = id;
+            this.table = table;
+            this.operation = operation;
+            this.recordId = recordId;
+            this.score1 = score1;
+            this.score2 = score2;
+            this.attempts = attempts;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.sportsmanager.dao;
+
+import com.sportsmanager.model.User;
+import com.sportsmanager.util.ConfigManager;
+import com.sportsmanager.util.Log;
+import com.sportsmanager.util.SearchFilter;
+import com.sportsmanager.util.SessionManager;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Ranked search over teams, coaches, match locations and tournaments, including rows that aren't loaded
+ * PostgreSQL uses pg_trgm-indexed ILIKE ranked by word_similarity; SQLite finds candidates in the FTS5
+ * search_index and match_search_index and ranks them with score(). Every matching team and tournament is
+ * ranked; matches only within the newest search.match.window hits, in both dialects. That window is the
+ * same for every page, so paging walks one ordered list.
+ * Non-admins only see their own tournaments, as in TournamentDAO.
+ */
+public class SearchDAO {
+
+    private static final Log log = Log.get(SearchDAO.class);
+    private static final DaoMetrics metrics = DaoMetrics.get(SearchDAO.class);
+
+    public static final String TEAM = "team";
+    public static final String MATCH = "match";
+    public static final String TOURNAMENT = "tournament";
+
+    // Index expressions; must match the pg_trgm indexes in the README exactly to be used
+    private static final String TEAM_TEXT = "(name || ' ' || coach)";
+    private static final String MATCH_TEXT = "(team1_name || ' ' || team2_name || ' ' || location)";
+    private static final String TOURNAMENT_TEXT = "(name || ' ' || COALESCE(description, ''))";
+
+    // Matches are ranked among the newest matching rows only; ranking every match that contains
+    // a common word ("madrid") costs far more than the handful of results anyone looks at
+    private static final String POSTGRES_SQL =
+            "SELECT kind, id, sport_id, title, detail, score FROM (" +
+            "SELECT 'team' AS kind, id, sport_id, name AS title, coach AS detail, " +
+            "word_similarity(?, " + TEAM_TEXT + ") AS score " +
+            "FROM teams WHERE " + TEAM_TEXT + " ILIKE ALL (?) AND (? = 0 OR sport_id = ?) " +
+            "UNION ALL " +
+            "SELECT 'tournament', id, sport_id, name, COALESCE(description, ''), " +
+            "word_similarity(?, " + TOURNAMENT_TEXT + ") " +
+            "FROM tournaments WHERE " + TOURNAMENT_TEXT + " ILIKE ALL (?) AND (? = 0 OR sport_id = ?) " +
+            "AND (? OR created_by = ?) " +
+            "UNION ALL " +
+            "SELECT * FROM (SELECT 'match', id, sport_id, team1_name || ' vs ' || team2_name, location, " +
+            "word_similarity(?, " + MATCH_TEXT + ") " +
+            "FROM matches WHERE " + MATCH_TEXT + " ILIKE ALL (?) AND (? = 0 OR sport_id = ?) " +
+            "ORDER BY id DESC LIMIT ?) newest_matches" +
+            ") hits " +
+            "ORDER BY score DESC, kind, id DESC LIMIT ? OFFSET ?";
+
+    // Candidates from each FTS5 index, the newest matches only, as on PostgreSQL; they're scored in Java
+    // because bm25 has to count every match of a common word before it can rank the first one. Filters are
+    // added only when they apply, since an always-true "? = 0 OR ..." term still costs SQLite a check per
+    // candidate.
+    private static final String SQLITE_INDEX_SQL =
+            "SELECT kind, ref_id, sport_id, title, detail FROM search_index WHERE search_index MATCH ?%s";
+    private static final String SQLITE_MATCH_SQL =
+            "SELECT * FROM (SELECT 'match', rowid, sport_id, title, detail FROM match_search_index " +
+            "WHERE match_search_index MATCH ?%s ORDER BY rowid DESC LIMIT %d)";
+    // Longest prefix covered by the FTS5 prefix index (prefix = '2 3 4' in DatabaseConnection)
+    private static final int MAX_INDEXED_PREFIX = 4;
+    private static final Pattern WORD_BREAK = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final int matchWindow = ConfigManager.getInstance().getInt("search.match.window", 500);
+
+    /**
+     * One ranked result
+     */
+    public static class SearchHit {
+        public String kind;
+        public int id;
+        public int sportId;
+        public String title;
+        public String detail;
+        public double score;
+
+        public SearchHit(String kind, int id, int sportId, String title, String detail, double score) {
+            this.kind = kind;
+            this.id = id;
+            this.sportId = sportId;
+            this.title = title;
+            this.detail = detail;
+            this.score = score;
+        }
+
+        @Override
+        public String toString() {
+            String icon = switch (kind) {
+                case TEAM -> "👥";
+                case MATCH -> "⚽";
+                default -> "🏆";
+            };
+            return icon + " " + title + (detail == null || detail.isEmpty() ? "" : " — " + detail);
+        }
+    }
+
+    /**
+     * Search everything (sportId 0) or one sport; page is zero-based
+     */
+    public List<SearchHit> search(String query, int sportId, int page, int pageSize) throws SQLException {
+        List<String> terms = terms(query);
+        List<SearchHit> hits = new ArrayList<>();
+        if (terms.isEmpty()) {
+            return hits;
+        }
+
+        User user = SessionManager.getInstance().getCurrentUser();
+        // Headless tools have no session and see everything
+        boolean allTournaments = user == null || SessionManager.getInstance().isAdmin();
+        String userId = user != null ? user.getId() : null;
+
+        long start = System.currentTimeMillis();
+        try (DaoMetrics.Call call = metrics.start("search")) {
+            if (DataSources.dialect() == SqlDialect.POSTGRESQL) {
+                try (Connection conn = call.acquired(DataSources.getConnection());
+                     PreparedStatement pstmt = preparePostgres(conn, terms, sportId, allTournaments, userId, page, pageSize);
+                     ResultSet rs = call.query(pstmt)) {
+                    while (call.next(rs)) {
+                        hits.add(new SearchHit(rs.getString(1), rs.getInt(2), rs.getInt(3),
+                                rs.getString(4), rs.getString(5), rs.getDouble(6)));
+                    }
+                }
+            } else {
+                hits = searchSqlite(call, terms, sportId, allTournaments, userId, page, pageSize);
+            }
+        }
+
+        if (log.isCallLogged()) {
+            log.info("Search '{}' page {}: {} hits in {} ms", query, page, hits.size(), System.currentTimeMillis() - start);
+        }
+        return hits;
+    }
+
+    private PreparedStatement preparePostgres(Connection conn, List<String> terms, int sportId, boolean allTournaments,
+                                              String userId, int page, int pageSize) throws SQLException {
+        String phrase = String.join(" ", terms);
+        Object[] patterns = new Object[terms.size()];
+        for (int i = 0; i < terms.size(); i++) {
+            patterns[i] = "%" + terms.get(i).replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        }
+        Array patternArray = conn.createArrayOf("text", patterns);
+
+        PreparedStatement pstmt = conn.prepareStatement(POSTGRES_SQL);
+        int index = 1;
+        for (String kind : new String[]{TEAM, TOURNAMENT, MATCH}) {
+            pstmt.setString(index++, phrase);
+            pstmt.setArray(index++, patternArray);
+            pstmt.setInt(index++, sportId);
+            pstmt.setInt(index++, sportId);
+            if (kind.equals(TOURNAMENT)) {
+                pstmt.setBoolean(index++, allTournaments);
+                SqlDialect.POSTGRESQL.setUuid(pstmt, index++, userId);
+            }
+        }
+        pstmt.setInt(index++, matchWindow);
+        pstmt.setInt(index++, pageSize);
+        pstmt.setInt(index, page * pageSize);
+        return pstmt;
+    }
+
+    private List<SearchHit> searchSqlite(DaoMetrics.Call call, List<String> terms, int sportId, boolean allTournaments,
+                                         String userId, int page, int pageSize) throws SQLException {
+        String last = terms.get(terms.size() - 1);
+        List<SearchHit> hits;
+        try (Connection conn = call.acquired(DataSources.getConnection())) {
+            if (last.length() > MAX_INDEXED_PREFIX) {
+                // "madrid"* has no prefix index to read, so FTS5 would merge every term starting with "madrid";
+                // a long last word is usually complete, so look it up as a word and only fall back to the prefix
+                // when the word can't fill a first page. Deeper pages make the same choice, so they page
+                // through the same ranked list.
+                hits = querySqlite(call, conn, matchExpression(terms, false), terms, sportId, allTournaments, userId);
+                if (hits.size() < pageSize) {
+                    hits = querySqlite(call, conn, matchExpression(terms, true), terms, sportId, allTournaments, userId);
+                }
+            } else {
+                // Single letters aren't in the prefix index either; "4" is more likely a number than a prefix
+                hits = querySqlite(call, conn, matchExpression(terms, last.length() > 1), terms, sportId, allTournaments,
+                        userId);
+            }
+        }
+
+        hits.sort(Comparator.comparingDouble((SearchHit hit) -> -hit.score)
+                .thenComparing(hit -> hit.kind)
+                .thenComparing(hit -> -hit.id));
+        int from = Math.min(page * pageSize, hits.size());
+        return new ArrayList<>(hits.subList(from, Math.min(from + pageSize, hits.size())));
+    }
+
+    private List<SearchHit> querySqlite(DaoMetrics.Call call, Connection conn, String match, List<String> terms,
+                                        int sportId, boolean allTournaments, String userId) throws SQLException {
+        String sportFilter = sportId > 0 ? " AND sport_id = " + sportId : "";
+        String tournamentFilter = allTournaments ? ""
+                : " AND (kind <> 'tournament' OR ref_id IN (SELECT id FROM tournaments WHERE created_by = ?))";
+        String sql = String.format(SQLITE_INDEX_SQL, sportFilter + tournamentFilter)
+                + " UNION ALL " + String.format(SQLITE_MATCH_SQL, sportFilter, matchWindow);
+
+        List<String> plainTerms = new ArrayList<>();
+        for (String term : terms) {
+            plainTerms.add(plain(term));
+        }
+
+        List<SearchHit> hits = new ArrayList<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            pstmt.setString(index++, match);
+            if (!allTournaments) {
+                pstmt.setString(index++, userId);
+            }
+            pstmt.setString(index, match);
+
+            try (ResultSet rs = call.query(pstmt)) {
+                while (call.next(rs)) {
+                    String title = rs.getString(4);
+                    String detail = rs.getString(5);
+                    hits.add(new SearchHit(rs.getString(1), rs.getInt(2), rs.getInt(3), title, detail,
+                            score(plainTerms, title, detail)));
+                }
+            }
+        }
+        return hits;
+    }
+
+    // Every term must match; only the last one (still being typed) may be a prefix: "real madr" → "real" "madr"*
+    private static String matchExpression(List<String> terms, boolean prefixLast) {
+        StringBuilder match = new StringBuilder();
+        for (int i = 0; i < terms.size(); i++) {
+            if (i > 0) match.append(' ');
+            match.append('"').append(terms.get(i).replace("\"", "\"\"")).append('"');
+            if (prefixLast && i == terms.size() - 1) match.append('*');
+        }
+        return match.toString();
+    }
+
+    /**
+     * Relevance of one candidate: each term scores by where it appears, whole words above prefixes
+     * above substrings, and the title above the detail line; terms are already lowercased and unaccented
+     */
+    static double score(List<String> plainTerms, String title, String detail) {
+        String[] titleWords = WORD_BREAK.split(plain(title));
+        String[] detailWords = WORD_BREAK.split(plain(detail));
+        double score = 0;
+        for (String term : plainTerms) {
+            double inTitle = wordScore(term, titleWords);
+            score += inTitle > 0 ? inTitle * 3 : wordScore(term, detailWords);
+        }
+        return score;
+    }
+
+    // Most names are plain ASCII, which only needs lowercasing; the rest go through full normalization
+    private static String plain(String text) {
+        if (text == null) {
+            return "";
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0x7F) {
+                return SearchFilter.normalize(text);
+            }
+        }
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private static double wordScore(String term, String[] words) {
+        double best = 0;
+        for (String word : words) {
+            if (word.equals(term)) {
+                return 3;
+            } else if (word.startsWith(term)) {
+                best = Math.max(best, 2);
+            } else if (word.contains(term)) {
+                best = Math.max(best, 1);
+            }
+        }
+        return best;
+    }
+
+    // Split on anything that isn't a letter or digit, the same way the FTS5 tokenizer does
+    private static List<String> terms(String query) {
+        List<String> terms = new ArrayList<>();
+        if (query == null) {
+            return terms;
+        }
+        for (String term : WORD_BREAK.split(query.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+}
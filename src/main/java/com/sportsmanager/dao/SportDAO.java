@@ -1,39 +1,132 @@
 package com.sportsmanager.dao;
 
 import com.sportsmanager.model.Sport;
+import com.sportsmanager.util.Log;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Data Access Object for Sports
  * Compatible with both Supabase PostgreSQL and local SQLite
+ * Reads go through a process-wide cache that every write invalidates
  */
 public class SportDAO {
 
+    private static final Log log = Log.get(SportDAO.class);
+    private static final DaoMetrics metrics = DaoMetrics.get(SportDAO.class);
+
+    // Process-wide read-through cache (sports almost never change)
+    private static volatile SportCache cache;
+    private static final AtomicLong cacheGeneration = new AtomicLong();
+    private static final LongAdder cacheHits = new LongAdder();
+    private static final LongAdder cacheMisses = new LongAdder();
+
     public void addSport(Sport sport) throws SQLException {
+        if (LocalReplica.isActive()) {
+            LocalReplica.insert("sports", LocalReplica.values(
+                    "name", sport.getName(), "scoring_type", sport.getScoringType()));
+            invalidateCache();
+            if (log.isCallLogged()) {
+                log.info("Sport added locally: {}", sport.getName());
+            }
+            return;
+        }
+
         String sql = "INSERT INTO sports (name, scoring_type) VALUES (?, ?)";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("addSport");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, sport.getName());
             pstmt.setString(2, sport.getScoringType());
-            pstmt.executeUpdate();
+            call.update(pstmt);
 
-            System.out.println("✅ Sport added: " + sport.getName());
+            if (log.isCallLogged()) {
+                log.info("Sport added: {}", sport.getName());
+            }
+        } finally {
+            invalidateCache();
         }
     }
 
     public ObservableList<Sport> getAllSports() throws SQLException {
-        ObservableList<Sport> sports = FXCollections.observableArrayList();
+        return FXCollections.observableArrayList(loadCache().ordered);
+    }
+
+    /**
+     * Look up a sport by name (case-insensitive)
+     */
+    public Sport getSportByName(String name) throws SQLException {
+        if (name == null) return null;
+        return loadCache().byName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Drop cached sports so the next read goes to the database
+     */
+    public static void invalidateCache() {
+        cacheGeneration.incrementAndGet();
+        cache = null;
+    }
+
+    /**
+     * Get cache hit/miss counters for display
+     */
+    public static String getCacheStats() {
+        long hits = cacheHits.sum();
+        long misses = cacheMisses.sum();
+        long total = hits + misses;
+        return String.format("Sport cache: %d hits, %d misses (%.1f%% hit rate)",
+                hits, misses, total == 0 ? 0.0 : hits * 100.0 / total);
+    }
+
+    public static long getCacheHits() { return cacheHits.sum(); }
+    public static long getCacheMisses() { return cacheMisses.sum(); }
+
+    private SportCache loadCache() throws SQLException {
+        SportCache current = cache;
+        if (current != null) {
+            cacheHits.increment();
+            return current;
+        }
+
+        synchronized (SportDAO.class) {
+            current = cache;
+            if (current != null) {
+                cacheHits.increment();
+                return current;
+            }
+            cacheMisses.increment();
+            long generation = cacheGeneration.get();
+            current = new SportCache(querySports());
+            // A write during the query makes this snapshot stale; serve it once but don't keep it
+            if (generation == cacheGeneration.get()) {
+                cache = current;
+            }
+            return current;
+        }
+    }
+
+    private List<Sport> querySports() throws SQLException {
+        List<Sport> sports = new ArrayList<>();
         String sql = "SELECT id, name, scoring_type FROM sports ORDER BY name";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("querySports");
+             Connection conn = call.acquired(LocalReplica.getReadConnection());
              Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+             ResultSet rs = call.query(stmt, sql)) {
 
-            while (rs.next()) {
+            while (call.next(rs)) {
                 Sport sport = new Sport(
                         rs.getInt("id"),
                         rs.getString("name"),
@@ -42,58 +135,89 @@ public class SportDAO {
                 sports.add(sport);
             }
 
-            System.out.println("✅ Loaded " + sports.size() + " sports");
+            if (log.isCallLogged()) {
+                log.info("Loaded {} sports", sports.size());
+            }
         }
 
         return sports;
     }
 
     public Sport getSportById(int id) throws SQLException {
-        String sql = "SELECT id, name, scoring_type FROM sports WHERE id = ?";
-
-        try (Connection conn = SupabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setInt(1, id);
-            ResultSet rs = pstmt.executeQuery();
+        return loadCache().byId.get(id);
+    }
 
-            if (rs.next()) {
-                return new Sport(
-                        rs.getInt("id"),
-                        rs.getString("name"),
-                        rs.getString("scoring_type")
-                );
+    public void updateSport(Sport sport) throws SQLException {
+        if (LocalReplica.isActive()) {
+            LocalReplica.update("sports", sport.getId(), LocalReplica.values(
+                    "name", sport.getName(), "scoring_type", sport.getScoringType()));
+            invalidateCache();
+            if (log.isCallLogged()) {
+                log.info("Sport updated locally: {}", sport.getName());
             }
+            return;
         }
 
-        return null;
-    }
-
-    public void updateSport(Sport sport) throws SQLException {
         String sql = "UPDATE sports SET name = ?, scoring_type = ? WHERE id = ?";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("updateSport");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, sport.getName());
             pstmt.setString(2, sport.getScoringType());
             pstmt.setInt(3, sport.getId());
-            pstmt.executeUpdate();
+            call.update(pstmt);
 
-            System.out.println("✅ Sport updated: " + sport.getName());
+            if (log.isCallLogged()) {
+                log.info("Sport updated: {}", sport.getName());
+            }
+        } finally {
+            invalidateCache();
         }
     }
 
     public void deleteSport(int sportId) throws SQLException {
+        if (LocalReplica.isActive()) {
+            LocalReplica.delete("sports", sportId);
+            invalidateCache();
+            if (log.isCallLogged()) {
+                log.info("Sport deleted locally (id {})", sportId);
+            }
+            return;
+        }
+
         String sql = "DELETE FROM sports WHERE id = ?";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("deleteSport");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, sportId);
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = call.update(pstmt);
 
-            System.out.println("✅ Sport deleted (rows affected: " + rowsAffected + ")");
+            if (log.isCallLogged()) {
+                log.info("Sport deleted (rows {})", rowsAffected);
+            }
+        } finally {
+            invalidateCache();
+        }
+    }
+
+    /**
+     * Immutable snapshot of all sports with id and name indexes
+     */
+    private static final class SportCache {
+        private final List<Sport> ordered;
+        private final Map<Integer, Sport> byId = new HashMap<>();
+        private final Map<String, Sport> byName = new HashMap<>();
+
+        private SportCache(List<Sport> sports) {
+            this.ordered = Collections.unmodifiableList(sports);
+            for (Sport sport : sports) {
+                byId.put(sport.getId(), sport);
+                byName.put(sport.getName().toLowerCase(Locale.ROOT), sport);
+            }
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+package com.sportsmanager.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.UUID;
+
+/**
+ * SQL differences between the supported databases
+ * DAOs keep one portable statement and ask the dialect only for the parts that differ
+ */
+public enum SqlDialect {
+    POSTGRESQL {
+        @Override
+        public void setUuid(PreparedStatement pstmt, int index, String uuid) throws SQLException {
+            if (uuid == null) {
+                pstmt.setNull(index, Types.OTHER);
+            } else {
+                pstmt.setObject(index, UUID.fromString(uuid));
+            }
+        }
+
+        @Override
+        public String forUpdate() {
+            return " FOR UPDATE";
+        }
+
+        @Override
+        public String resetIdSequence(String table) {
+            return "SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), " +
+                    "(SELECT COALESCE(MAX(id), 1) FROM " + table + "))";
+        }
+    },
+
+    SQLITE {
+        @Override
+        public void setUuid(PreparedStatement pstmt, int index, String uuid) throws SQLException {
+            // SQLite has no uuid type; ids are stored as text
+            pstmt.setString(index, uuid);
+        }
+
+        @Override
+        public String forUpdate() {
+            // Writers are serialized by the database lock, so there is no row lock to take
+            return "";
+        }
+
+        @Override
+        public String resetIdSequence(String table) {
+            // AUTOINCREMENT already continues after the largest id inserted
+            return "";
+        }
+    };
+
+    /**
+     * Dialect of an open connection, from the driver's product name
+     */
+    public static SqlDialect of(Connection conn) throws SQLException {
+        String product = conn.getMetaData().getDatabaseProductName();
+        return "PostgreSQL".equalsIgnoreCase(product) ? POSTGRESQL : SQLITE;
+    }
+
+    /**
+     * Bind a user id (uuid on PostgreSQL, text elsewhere)
+     */
+    public abstract void setUuid(PreparedStatement pstmt, int index, String uuid) throws SQLException;
+
+    /**
+     * Row-lock suffix for a SELECT inside a transaction, or "" when the engine has none
+     */
+    public abstract String forUpdate();
+
+    /**
+     * Statement that moves a table's id sequence past rows inserted with explicit ids, or "" when not needed
+     */
+    public abstract String resetIdSequence(String table);
+
+    /**
+     * Check whether SELECT ... FOR UPDATE is available
+     */
+    public boolean supportsRowLocks() {
+        return !forUpdate().isEmpty();
+    }
+
+    /**
+     * INSERT that updates the given columns (or does nothing) when the key already exists
+     * Both engines accept the same ON CONFLICT ... excluded syntax.
+     */
+    public String upsert(String table, String[] columns, String[] keyColumns, String... updateColumns) {
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+                .append(" (").append(String.join(", ", columns)).append(") VALUES (")
+                .append("?, ".repeat(columns.length - 1)).append("?) ON CONFLICT (")
+                .append(String.join(", ", keyColumns)).append(") ");
+
+        if (updateColumns.length == 0) {
+            return sql.append("DO NOTHING").toString();
+        }
+
+        sql.append("DO UPDATE SET ");
+        for (int i = 0; i < updateColumns.length; i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(updateColumns[i]).append(" = excluded.").append(updateColumns[i]);
+        }
+        return sql.toString();
+    }
+}
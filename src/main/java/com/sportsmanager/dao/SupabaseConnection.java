@@ -1,23 +1,34 @@
 package com.sportsmanager.dao;
 
+import com.sportsmanager.util.ConfigManager;
+import com.sportsmanager.util.Log;
+
 import java.io.InputStream;
 import java.sql.*;
 import java.util.Properties;
 
 /**
  * Supabase PostgreSQL Connection Manager
- * Direct connection to Supabase with detailed error messages
+ * Pooled connections to Supabase with detailed error messages
  */
 public class SupabaseConnection {
 
+    private static final Log log = Log.get(SupabaseConnection.class);
+
+    // Supavisor in transaction mode: each transaction may run on a different server connection
+    private static final String TRANSACTION_POOLER_PORT = "6543";
+
     private static String DB_URL;
     private static String DB_USER;
     private static String DB_PASSWORD;
     private static String DB_HOST;
     private static String DB_PORT;
 
+    private static final ConnectionPool POOL;
+
     static {
         loadConfiguration();
+        POOL = createPool();
     }
 
     /**
@@ -124,14 +135,74 @@ public class SupabaseConnection {
     }
 
     /**
-     * Get database connection with detailed error handling
+     * Build the connection pool from config.properties (db.pool.*)
+     */
+    private static ConnectionPool createPool() {
+        ConfigManager config = ConfigManager.getInstance();
+        ConnectionPool pool = new ConnectionPool(
+                "supabase",
+                SupabaseConnection::openPhysicalConnection,
+                config.getInt("db.pool.max.size", 8),
+                config.getInt("db.pool.min.idle", 2),
+                config.getInt("db.pool.borrow.timeout.ms", 10_000),
+                config.getInt("db.pool.validation.idle.ms", 30_000),
+                config.getInt("db.pool.max.lifetime.ms", 1_800_000),
+                config.getInt("db.statement.cache.size", 32)
+        );
+        System.out.println("🏊 Connection pool ready (max " + pool.getMaxSize() + " connections)");
+        return pool;
+    }
+
+    /**
+     * Get a pooled database connection; closing it returns it to the pool
      */
     public static Connection getConnection() throws SQLException {
-        System.out.println("🔄 Attempting Supabase connection...");
+        return POOL.getConnection();
+    }
+
+    /**
+     * Open the minimum number of idle connections in the background
+     */
+    public static void warmUpPool() {
+        Thread warmUp = new Thread(POOL::warmUp, "db-pool-warmup");
+        warmUp.setDaemon(true);
+        warmUp.start();
+    }
+
+    /**
+     * Close idle pooled connections (call on application exit)
+     */
+    public static void shutdownPool() {
+        POOL.shutdown();
+    }
+
+    /**
+     * Get pool metrics (active, idle, waiters, borrow latency)
+     */
+    public static ConnectionPool getPool() {
+        return POOL;
+    }
+
+    /**
+     * Open a new physical connection with detailed error handling
+     */
+    private static Connection openPhysicalConnection() throws SQLException {
+        log.debug("Opening Supabase connection to {}:{}", DB_HOST, DB_PORT);
 
         try {
-            Connection conn = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
-            System.out.println("✅ Successfully connected to Supabase!");
+            Properties props = new Properties();
+            props.setProperty("user", DB_USER);
+            props.setProperty("password", DB_PASSWORD);
+            // Executions of the same SQL before pgjdbc switches to a named server-side statement,
+            // parsed and planned once per connection; 0 keeps every statement unnamed. The transaction
+            // pooler (port 6543) may run the next execute on another backend, so it never prepares there.
+            int defaultThreshold = TRANSACTION_POOLER_PORT.equals(DB_PORT) ? 0 : 1;
+            props.setProperty("prepareThreshold", String.valueOf(
+                    ConfigManager.getInstance().getInt("supabase.db.prepare.threshold", defaultThreshold)));
+
+            long start = System.currentTimeMillis();
+            Connection conn = DriverManager.getConnection(DB_URL, props);
+            log.info("Connected to Supabase in {} ms", System.currentTimeMillis() - start);
             return conn;
 
         } catch (SQLException e) {
@@ -208,9 +279,10 @@ public class SupabaseConnection {
     public static boolean testConnection() {
         System.out.println("\n🧪 Testing Supabase connection...");
         try (Connection conn = getConnection()) {
-            boolean isValid = conn != null && !conn.isClosed();
+            boolean isValid = conn != null && conn.isValid(5);
             if (isValid) {
                 System.out.println("✅ Connection test PASSED\n");
+                System.out.println("📈 " + POOL.getStats());
             }
             return isValid;
         } catch (SQLException e) {
@@ -241,7 +313,7 @@ public class SupabaseConnection {
         if (conn != null) {
             try {
                 conn.close();
-                System.out.println("🔒 Connection closed");
+                System.out.println("🔒 Connection returned to pool");
             } catch (SQLException e) {
                 System.err.println("⚠️  Error closing connection: " + e.getMessage());
             }
@@ -302,6 +374,7 @@ public class SupabaseConnection {
         System.out.println("   Port: " + DB_PORT);
         System.out.println("   User: " + DB_USER);
         System.out.println("   JDBC URL: " + DB_URL);
+        System.out.println("   " + POOL.getStats());
         System.out.println();
     }
 }
\ No newline at end of file
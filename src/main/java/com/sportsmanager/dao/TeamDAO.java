@@ -1,6 +1,8 @@
 package com.sportsmanager.dao;
 
 import com.sportsmanager.model.Team;
+import com.sportsmanager.util.ConfigManager;
+import com.sportsmanager.util.Log;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import java.sql.*;
@@ -11,11 +13,27 @@ import java.sql.*;
  */
 public class TeamDAO {
 
+    private static final Log log = Log.get(TeamDAO.class);
+    private static final DaoMetrics metrics = DaoMetrics.get(TeamDAO.class);
+
     public void addTeam(Team team) throws SQLException {
+        if (LocalReplica.isActive()) {
+            LocalReplica.insert("teams", LocalReplica.values(
+                    "name", team.getName(), "coach", team.getCoach(),
+                    "wins", team.getWins(), "losses", team.getLosses(), "draws", team.getDraws(),
+                    "points", team.getPoints(), "goals_for", team.getGoalsFor(),
+                    "goals_against", team.getGoalsAgainst(), "sport_id", team.getSportId()));
+            if (log.isCallLogged()) {
+                log.info("Team added locally: {}", team.getName());
+            }
+            return;
+        }
+
         String sql = "INSERT INTO teams (name, coach, wins, losses, draws, points, goals_for, goals_against, sport_id) " +
                 "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("addTeam");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, team.getName());
@@ -27,9 +45,11 @@ public class TeamDAO {
             pstmt.setInt(7, team.getGoalsFor());
             pstmt.setInt(8, team.getGoalsAgainst());
             pstmt.setInt(9, team.getSportId());
-            pstmt.executeUpdate();
+            call.update(pstmt);
 
-            System.out.println("✅ Team added: " + team.getName());
+            if (log.isCallLogged()) {
+                log.info("Team added: {}", team.getName());
+            }
         }
     }
 
@@ -38,16 +58,19 @@ public class TeamDAO {
         String sql = "SELECT id, name, coach, wins, losses, draws, points, goals_for, goals_against, sport_id " +
                 "FROM teams ORDER BY name";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("getAllTeams");
+             Connection conn = call.acquired(LocalReplica.getReadConnection());
              Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+             ResultSet rs = call.query(stmt, sql)) {
 
-            while (rs.next()) {
+            while (call.next(rs)) {
                 Team team = createTeamFromResultSet(rs);
                 teams.add(team);
             }
 
-            System.out.println("✅ Loaded " + teams.size() + " teams");
+            if (log.isCallLogged()) {
+                log.info("Loaded {} teams", teams.size());
+            }
         }
 
         return teams;
@@ -58,18 +81,21 @@ public class TeamDAO {
         String sql = "SELECT id, name, coach, wins, losses, draws, points, goals_for, goals_against, sport_id " +
                 "FROM teams WHERE sport_id = ? ORDER BY name";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("getTeamsBySport");
+             Connection conn = call.acquired(LocalReplica.getReadConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, sportId);
-            ResultSet rs = pstmt.executeQuery();
+            ResultSet rs = call.query(pstmt);
 
-            while (rs.next()) {
+            while (call.next(rs)) {
                 Team team = createTeamFromResultSet(rs);
                 teams.add(team);
             }
 
-            System.out.println("✅ Loaded " + teams.size() + " teams for sport ID: " + sportId);
+            if (log.isCallLogged()) {
+                log.info("Loaded {} teams for sport {}", teams.size(), sportId);
+            }
         }
 
         return teams;
@@ -81,28 +107,41 @@ public class TeamDAO {
                 "FROM teams WHERE sport_id = ? " +
                 "ORDER BY points DESC, (goals_for - goals_against) DESC, goals_for DESC";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("getStandingsBySport");
+             Connection conn = call.acquired(LocalReplica.getReadConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, sportId);
-            ResultSet rs = pstmt.executeQuery();
+            ResultSet rs = call.query(pstmt);
 
-            while (rs.next()) {
+            while (call.next(rs)) {
                 Team team = createTeamFromResultSet(rs);
                 teams.add(team);
             }
 
-            System.out.println("✅ Loaded standings for " + teams.size() + " teams");
+            if (log.isCallLogged()) {
+                log.info("Loaded standings for {} teams", teams.size());
+            }
         }
 
         return teams;
     }
 
     public void updateTeam(Team team) throws SQLException {
+        if (LocalReplica.isActive()) {
+            LocalReplica.update("teams", team.getId(), LocalReplica.values(
+                    "name", team.getName(), "coach", team.getCoach()));
+            if (log.isCallLogged()) {
+                log.info("Team updated locally: {}", team.getName());
+            }
+            return;
+        }
+
         String sql = "UPDATE teams SET name = ?, coach = ?, wins = ?, losses = ?, draws = ?, " +
                 "points = ?, goals_for = ?, goals_against = ? WHERE id = ?";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("updateTeam");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, team.getName());
@@ -114,22 +153,35 @@ public class TeamDAO {
             pstmt.setInt(7, team.getGoalsFor());
             pstmt.setInt(8, team.getGoalsAgainst());
             pstmt.setInt(9, team.getId());
-            pstmt.executeUpdate();
+            call.update(pstmt);
 
-            System.out.println("✅ Team updated: " + team.getName());
+            if (log.isCallLogged()) {
+                log.info("Team updated: {}", team.getName());
+            }
         }
     }
 
     public void deleteTeam(int teamId) throws SQLException {
+        if (LocalReplica.isActive()) {
+            LocalReplica.delete("teams", teamId);
+            if (log.isCallLogged()) {
+                log.info("Team deleted locally (id {})", teamId);
+            }
+            return;
+        }
+
         String sql = "DELETE FROM teams WHERE id = ?";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("deleteTeam");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, teamId);
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = call.update(pstmt);
 
-            System.out.println("✅ Team deleted (rows affected: " + rowsAffected + ")");
+            if (log.isCallLogged()) {
+                log.info("Team deleted (rows {})", rowsAffected);
+            }
         }
     }
 
@@ -144,12 +196,13 @@ public class TeamDAO {
                 "goals_against = goals_against + ? " +
                 "WHERE name = ?";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("updateMatchResult");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             int pointsToAdd = 0;
-            if (isWin) pointsToAdd = 3;
-            else if (isDraw) pointsToAdd = 1;
+            if (isWin) pointsToAdd = ConfigManager.getInstance().getWinPoints();
+            else if (isDraw) pointsToAdd = ConfigManager.getInstance().getDrawPoints();
 
             pstmt.setInt(1, isWin ? 1 : 0);           // wins
             pstmt.setInt(2, isDraw ? 1 : 0);          // draws
@@ -159,13 +212,49 @@ public class TeamDAO {
             pstmt.setInt(6, goalsAgainst);            // goals_against
             pstmt.setString(7, teamName);
 
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = call.update(pstmt);
 
-            System.out.println("✅ Match result updated for team: " + teamName + " (rows: " + rowsAffected + ")");
+            if (log.isCallLogged()) {
+                log.info("Match result updated for team {} (rows {})", teamName, rowsAffected);
+            }
         }
     }
 
-    private Team createTeamFromResultSet(ResultSet rs) throws SQLException {
+    static final String APPLY_RESULT_SQL = "UPDATE teams SET " +
+            "wins = wins + ?, " +
+            "draws = draws + ?, " +
+            "losses = losses + ?, " +
+            "points = points + ?, " +
+            "goals_for = goals_for + ?, " +
+            "goals_against = goals_against + ? " +
+            "WHERE name = ? AND sport_id = ?";
+
+    /**
+     * Queue one team's share of a result on APPLY_RESULT_SQL.
+     * sign is 1 to apply the result and -1 to reverse a previously applied one.
+     */
+    static void addResultToBatch(PreparedStatement pstmt, String teamName, int sportId,
+                                 int goalsFor, int goalsAgainst, int sign) throws SQLException {
+        boolean isWin = goalsFor > goalsAgainst;
+        boolean isDraw = goalsFor == goalsAgainst;
+
+        int pointsToAdd = 0;
+        if (isWin) pointsToAdd = ConfigManager.getInstance().getWinPoints();
+        else if (isDraw) pointsToAdd = ConfigManager.getInstance().getDrawPoints();
+
+        pstmt.setInt(1, sign * (isWin ? 1 : 0));
+        pstmt.setInt(2, sign * (isDraw ? 1 : 0));
+        pstmt.setInt(3, sign * ((!isWin && !isDraw) ? 1 : 0));
+        pstmt.setInt(4, sign * pointsToAdd);
+        pstmt.setInt(5, sign * goalsFor);
+        pstmt.setInt(6, sign * goalsAgainst);
+        pstmt.setString(7, teamName);
+        pstmt.setInt(8, sportId);
+        pstmt.addBatch();
+    }
+
+    // Package-private for the row-mapping benchmarks
+    Team createTeamFromResultSet(ResultSet rs) throws SQLException {
         return new Team(
                 rs.getInt("id"),
                 rs.getString("name"),
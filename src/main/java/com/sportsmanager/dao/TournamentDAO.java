@@ -1,17 +1,35 @@
 package com.sportsmanager.dao;
 
 import com.sportsmanager.model.Tournament;
+import com.sportsmanager.model.TournamentStats;
+import com.sportsmanager.util.IntSet;
+import com.sportsmanager.util.Log;
 import com.sportsmanager.util.SessionManager;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import java.sql.*;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Enhanced Tournament DAO with user-specific access control
  */
 public class TournamentDAO {
 
+    private static final Log log = Log.get(TournamentDAO.class);
+    private static final DaoMetrics metrics = DaoMetrics.get(TournamentDAO.class);
+
+    // Per-round progress by tournament id, valid while tournament_stats.version is unchanged
+    private record CachedRounds(long version, List<TournamentStats.Round> rounds) {
+    }
+
+    private static final Map<Integer, CachedRounds> ROUNDS = new ConcurrentHashMap<>();
+    // Set when the database has no tournament_stats; statistics are counted until the data source changes
+    private static volatile boolean statsTableMissing = false;
+
     /**
      * Add new tournament created by current user
      */
@@ -20,7 +38,8 @@ public class TournamentDAO {
                 "end_date, status, description, prize_money, created_by) " +
                 "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("addTournament");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
 
             pstmt.setString(1, tournament.getName());
@@ -34,17 +53,21 @@ public class TournamentDAO {
 
             // Set creator as current logged-in user
             String userId = SessionManager.getInstance().getCurrentUser().getId();
-            pstmt.setObject(9, java.util.UUID.fromString(userId));
+            DataSources.dialect().setUuid(pstmt, 9, userId);
 
-            pstmt.executeUpdate();
+            call.update(pstmt);
 
             // Get generated ID
             ResultSet rs = pstmt.getGeneratedKeys();
-            if (rs.next()) {
+            if (call.next(rs)) {
                 tournament.setId(rs.getInt(1));
             }
 
-            System.out.println("✅ Tournament created: " + tournament.getName() + " by user: " + userId);
+            if (log.isCallLogged()) {
+                log.info("Tournament created: {} by user {}", tournament.getName(), userId);
+            }
+        } finally {
+            PermissionCache.getInstance().invalidate();
         }
     }
 
@@ -62,21 +85,24 @@ public class TournamentDAO {
                 "LEFT JOIN sports s ON t.sport_id = s.id " +
                 "LEFT JOIN teams tm ON t.winner_team_id = tm.id " +
                 "LEFT JOIN profiles p ON t.created_by = p.id " +
-                "WHERE t.created_by = ?::uuid " +
+                "WHERE t.created_by = ? " +
                 "ORDER BY t.start_date DESC";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("getMyTournaments");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            pstmt.setString(1, userId);
-            ResultSet rs = pstmt.executeQuery();
+            DataSources.dialect().setUuid(pstmt, 1, userId);
+            ResultSet rs = call.query(pstmt);
 
-            while (rs.next()) {
+            while (call.next(rs)) {
                 Tournament tournament = createTournamentFromResultSet(rs);
                 tournaments.add(tournament);
             }
 
-            System.out.println("✅ Loaded " + tournaments.size() + " tournaments for user: " + userId);
+            if (log.isCallLogged()) {
+                log.info("Loaded {} tournaments for user {}", tournaments.size(), userId);
+            }
         }
 
         return tournaments;
@@ -97,16 +123,19 @@ public class TournamentDAO {
                 "LEFT JOIN profiles p ON t.created_by = p.id " +
                 "ORDER BY t.start_date DESC";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("getAllTournaments");
+             Connection conn = call.acquired(DataSources.getConnection());
              Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+             ResultSet rs = call.query(stmt, sql)) {
 
-            while (rs.next()) {
+            while (call.next(rs)) {
                 Tournament tournament = createTournamentFromResultSet(rs);
                 tournaments.add(tournament);
             }
 
-            System.out.println("✅ Loaded " + tournaments.size() + " tournaments (Admin view)");
+            if (log.isCallLogged()) {
+                log.info("Loaded {} tournaments (admin view)", tournaments.size());
+            }
         }
 
         return tournaments;
@@ -127,25 +156,28 @@ public class TournamentDAO {
                 "LEFT JOIN teams tm ON t.winner_team_id = tm.id " +
                 "LEFT JOIN profiles p ON t.created_by = p.id " +
                 "WHERE t.sport_id = ? " +
-                (isAdmin ? "" : "AND t.created_by = ?::uuid ") +
+                (isAdmin ? "" : "AND t.created_by = ? ") +
                 "ORDER BY t.start_date DESC";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("getTournamentsBySport");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, sportId);
             if (!isAdmin) {
-                pstmt.setString(2, SessionManager.getInstance().getCurrentUser().getId());
+                DataSources.dialect().setUuid(pstmt, 2, SessionManager.getInstance().getCurrentUser().getId());
             }
 
-            ResultSet rs = pstmt.executeQuery();
+            ResultSet rs = call.query(pstmt);
 
-            while (rs.next()) {
+            while (call.next(rs)) {
                 Tournament tournament = createTournamentFromResultSet(rs);
                 tournaments.add(tournament);
             }
 
-            System.out.println("✅ Loaded " + tournaments.size() + " tournaments for sport ID: " + sportId);
+            if (log.isCallLogged()) {
+                log.info("Loaded {} tournaments for sport {}", tournaments.size(), sportId);
+            }
         }
 
         return tournaments;
@@ -161,9 +193,10 @@ public class TournamentDAO {
         String sql = "UPDATE tournaments SET name = ?, tournament_type = ?, start_date = ?, " +
                 "end_date = ?, status = ?, description = ?, prize_money = ?, winner_team_id = ? " +
                 "WHERE id = ? " +
-                (isAdmin ? "" : "AND created_by = ?::uuid");
+                (isAdmin ? "" : "AND created_by = ?");
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("updateTournament");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, tournament.getName());
@@ -183,16 +216,18 @@ public class TournamentDAO {
             pstmt.setInt(9, tournament.getId());
 
             if (!isAdmin) {
-                pstmt.setString(10, userId);
+                DataSources.dialect().setUuid(pstmt, 10, userId);
             }
 
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = call.update(pstmt);
 
             if (rowsAffected == 0) {
                 throw new SQLException("You don't have permission to update this tournament");
             }
 
-            System.out.println("✅ Tournament updated: " + tournament.getName());
+            if (log.isCallLogged()) {
+                log.info("Tournament updated: {}", tournament.getName());
+            }
         }
     }
 
@@ -204,74 +239,132 @@ public class TournamentDAO {
         String userId = SessionManager.getInstance().getCurrentUser().getId();
 
         String sql = "DELETE FROM tournaments WHERE id = ? " +
-                (isAdmin ? "" : "AND created_by = ?::uuid");
+                (isAdmin ? "" : "AND created_by = ?");
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("deleteTournament");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, tournamentId);
             if (!isAdmin) {
-                pstmt.setString(2, userId);
+                DataSources.dialect().setUuid(pstmt, 2, userId);
             }
 
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = call.update(pstmt);
 
             if (rowsAffected == 0) {
                 throw new SQLException("You don't have permission to delete this tournament");
             }
 
-            System.out.println("✅ Tournament deleted (rows affected: " + rowsAffected + ")");
+            if (log.isCallLogged()) {
+                log.info("Tournament deleted (rows {})", rowsAffected);
+            }
+        } finally {
+            ROUNDS.remove(tournamentId);
+            PermissionCache.getInstance().invalidate();
         }
     }
 
     /**
-     * Check if user owns tournament
+     * Check if user owns tournament (answered from the session permission cache)
      */
     public boolean isOwner(int tournamentId) throws SQLException {
-        String userId = SessionManager.getInstance().getCurrentUser().getId();
-        String sql = "SELECT COUNT(*) FROM tournaments WHERE id = ? AND created_by = ?::uuid";
-
-        try (Connection conn = SupabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        return PermissionCache.getInstance().isOwner(tournamentId);
+    }
 
-            pstmt.setInt(1, tournamentId);
-            pstmt.setString(2, userId);
+    /**
+     * Get tournament statistics: counters from tournament_stats, and per-round progress from one grouped pass
+     * that is cached until the stats triggers bump the row's version
+     */
+    public TournamentStats getTournamentStats(int tournamentId) throws SQLException {
+        String countersSql = "SELECT team_count, match_count, completed_count, total_goals, version " +
+                "FROM tournament_stats WHERE tournament_id = ?";
+
+        try (DaoMetrics.Call call = metrics.start("getTournamentStats");
+             Connection conn = call.acquired(DataSources.getConnection())) {
+            if (!statsTableMissing) {
+                try (PreparedStatement pstmt = conn.prepareStatement(countersSql)) {
+                    pstmt.setInt(1, tournamentId);
+                    ResultSet rs = call.query(pstmt);
+                    if (call.next(rs)) {
+                        int teamCount = rs.getInt("team_count");
+                        int matchCount = rs.getInt("match_count");
+                        int completedCount = rs.getInt("completed_count");
+                        int totalGoals = rs.getInt("total_goals");
+                        long version = rs.getLong("version");
+
+                        CachedRounds cached = ROUNDS.get(tournamentId);
+                        if (cached == null || cached.version() != version) {
+                            cached = new CachedRounds(version, loadRounds(call, conn, tournamentId));
+                            ROUNDS.put(tournamentId, cached);
+                        }
+                        return new TournamentStats(tournamentId, teamCount, matchCount, completedCount, totalGoals,
+                                cached.rounds());
+                    }
+                } catch (SQLException e) {
+                    if (!isMissingStatsTable(e)) {
+                        throw e;
+                    }
+                    statsTableMissing = true;
+                    log.warn("tournament_stats is not set up on this database (see README), counting instead: {}",
+                            e.getMessage());
+                }
+            }
 
-            ResultSet rs = pstmt.executeQuery();
-            if (rs.next()) {
-                return rs.getInt(1) > 0;
+            // No counters row yet (tournament created before the stats triggers, or no stats table): count once
+            List<TournamentStats.Round> rounds = loadRounds(call, conn, tournamentId);
+            int matchCount = 0, completedCount = 0, totalGoals = 0;
+            for (TournamentStats.Round round : rounds) {
+                matchCount += round.matches();
+                completedCount += round.completed();
+                totalGoals += round.goals();
+            }
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "SELECT COUNT(*) FROM tournament_teams WHERE tournament_id = ?")) {
+                pstmt.setInt(1, tournamentId);
+                ResultSet rs = call.query(pstmt);
+                int teamCount = call.next(rs) ? rs.getInt(1) : 0;
+                return new TournamentStats(tournamentId, teamCount, matchCount, completedCount, totalGoals, rounds);
             }
         }
-
-        return false;
     }
 
     /**
-     * Get tournament statistics
+     * Forget cached rounds and whether tournament_stats exists (after switching databases)
      */
-    public String getTournamentStats(int tournamentId) throws SQLException {
-        String sql = "SELECT " +
-                "(SELECT COUNT(*) FROM tournament_teams WHERE tournament_id = ?) as team_count, " +
-                "(SELECT COUNT(*) FROM matches WHERE tournament_id = ?) as match_count, " +
-                "(SELECT COUNT(*) FROM matches WHERE tournament_id = ? AND status = 'completed') as completed_matches";
+    public static void invalidateStatsCache() {
+        ROUNDS.clear();
+        statsTableMissing = false;
+    }
 
-        try (Connection conn = SupabaseConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+    private static List<TournamentStats.Round> loadRounds(DaoMetrics.Call call, Connection conn,
+                                                          int tournamentId) throws SQLException {
+        String roundsSql = "SELECT match_date, COUNT(*) AS matches, " +
+                "SUM(CASE WHEN status = 'Completed' THEN 1 ELSE 0 END) AS completed, " +
+                "SUM(CASE WHEN status = 'Completed' THEN team1_score + team2_score ELSE 0 END) AS goals, " +
+                "MAX(CASE WHEN status = 'Completed' THEN team1_score + team2_score ELSE 0 END) AS highest " +
+                "FROM matches WHERE tournament_id = ? GROUP BY match_date ORDER BY match_date";
 
+        List<TournamentStats.Round> rounds = new ArrayList<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(roundsSql)) {
             pstmt.setInt(1, tournamentId);
-            pstmt.setInt(2, tournamentId);
-            pstmt.setInt(3, tournamentId);
-
-            ResultSet rs = pstmt.executeQuery();
-            if (rs.next()) {
-                return String.format("Teams: %d | Matches: %d | Completed: %d",
-                        rs.getInt("team_count"),
-                        rs.getInt("match_count"),
-                        rs.getInt("completed_matches"));
+            ResultSet rs = call.query(pstmt);
+            while (call.next(rs)) {
+                rounds.add(new TournamentStats.Round(
+                        rs.getDate("match_date").toLocalDate(),
+                        rs.getInt("matches"),
+                        rs.getInt("completed"),
+                        rs.getInt("goals"),
+                        rs.getInt("highest")));
             }
         }
+        return List.copyOf(rounds);
+    }
 
-        return "No statistics available";
+    // 42P01 undefined_table, 42703 undefined_column: the Supabase DDL from the README (or its version column)
+    // hasn't been run yet
+    private static boolean isMissingStatsTable(SQLException e) {
+        return "42P01".equals(e.getSQLState()) || "42703".equals(e.getSQLState());
     }
 
     /**
@@ -281,14 +374,17 @@ public class TournamentDAO {
         String sql = "INSERT INTO tournament_teams (tournament_id, team_id) VALUES (?, ?) " +
                 "ON CONFLICT DO NOTHING";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("addTeamToTournament");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, tournamentId);
             pstmt.setInt(2, teamId);
-            pstmt.executeUpdate();
+            call.update(pstmt);
 
-            System.out.println("✅ Team added to tournament");
+            if (log.isCallLogged()) {
+                log.info("Team {} added to tournament {}", teamId, tournamentId);
+            }
         }
     }
 
@@ -298,31 +394,77 @@ public class TournamentDAO {
     public void removeTeamFromTournament(int tournamentId, int teamId) throws SQLException {
         String sql = "DELETE FROM tournament_teams WHERE tournament_id = ? AND team_id = ?";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("removeTeamFromTournament");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, tournamentId);
             pstmt.setInt(2, teamId);
-            pstmt.executeUpdate();
+            call.update(pstmt);
+
+            if (log.isCallLogged()) {
+                log.info("Team {} removed from tournament {}", teamId, tournamentId);
+            }
+        }
+    }
+
+    /**
+     * Apply a staged roster edit in one transaction: batched inserts for added teams, batched deletes for removed ones
+     */
+    public void updateTournamentTeams(int tournamentId, IntSet added, IntSet removed) throws SQLException {
+        if (added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        String insertSql = "INSERT INTO tournament_teams (tournament_id, team_id) VALUES (?, ?) " +
+                "ON CONFLICT DO NOTHING";
+        String deleteSql = "DELETE FROM tournament_teams WHERE tournament_id = ? AND team_id = ?";
+
+        long start = System.currentTimeMillis();
+        try (DaoMetrics.Call call = metrics.start("updateTournamentTeams");
+             Connection conn = call.acquired(DataSources.getConnection())) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement insert = conn.prepareStatement(insertSql);
+                 PreparedStatement delete = conn.prepareStatement(deleteSql)) {
+                for (int teamId : added.toArray()) {
+                    insert.setInt(1, tournamentId);
+                    insert.setInt(2, teamId);
+                    insert.addBatch();
+                }
+                for (int teamId : removed.toArray()) {
+                    delete.setInt(1, tournamentId);
+                    delete.setInt(2, teamId);
+                    delete.addBatch();
+                }
+                if (!added.isEmpty()) call.batch(insert);
+                if (!removed.isEmpty()) call.batch(delete);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
 
-            System.out.println("✅ Team removed from tournament");
+        if (log.isCallLogged()) {
+            log.info("Tournament {} roster updated: +{} / -{} teams in {} ms", tournamentId, added.size(), removed.size(),
+                    System.currentTimeMillis() - start);
         }
     }
 
     /**
      * Get teams in tournament
      */
-    public ObservableList<Integer> getTournamentTeamIds(int tournamentId) throws SQLException {
-        ObservableList<Integer> teamIds = FXCollections.observableArrayList();
+    public IntSet getTournamentTeamIds(int tournamentId) throws SQLException {
+        IntSet teamIds = new IntSet();
         String sql = "SELECT team_id FROM tournament_teams WHERE tournament_id = ?";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("getTournamentTeamIds");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, tournamentId);
-            ResultSet rs = pstmt.executeQuery();
+            ResultSet rs = call.query(pstmt);
 
-            while (rs.next()) {
+            while (call.next(rs)) {
                 teamIds.add(rs.getInt("team_id"));
             }
         }
@@ -330,7 +472,8 @@ public class TournamentDAO {
         return teamIds;
     }
 
-    private Tournament createTournamentFromResultSet(ResultSet rs) throws SQLException {
+    // Package-private for the row-mapping benchmarks
+    Tournament createTournamentFromResultSet(ResultSet rs) throws SQLException {
         Tournament tournament = new Tournament(
                 rs.getInt("id"),
                 rs.getString("name"),
@@ -10,21 +10,28 @@ import java.util.UUID;
  */
 public class TournamentUserDAO {
 
+    private static final DaoMetrics metrics = DaoMetrics.get(TournamentUserDAO.class);
+
     /**
      * Add user to tournament with specified role
      */
     public void addUserToTournament(int tournamentId, String userId, String role) throws SQLException {
-        String sql = "INSERT INTO tournament_members (tournament_id, user_id, role) VALUES (?, ?::uuid, ?) " +
-                "ON CONFLICT (tournament_id, user_id) DO UPDATE SET role = ?";
-
-        try (Connection conn = SupabaseConnection.getConnection();
+        SqlDialect dialect = DataSources.dialect();
+        String sql = dialect.upsert("tournament_members",
+                new String[]{"tournament_id", "user_id", "role"},
+                new String[]{"tournament_id", "user_id"},
+                "role");
+
+        try (DaoMetrics.Call call = metrics.start("addUserToTournament");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, tournamentId);
-            pstmt.setString(2, userId);
+            dialect.setUuid(pstmt, 2, userId);
             pstmt.setString(3, role);
-            pstmt.setString(4, role);
-            pstmt.executeUpdate();
+            call.update(pstmt);
+        } finally {
+            PermissionCache.getInstance().invalidate();
         }
     }
 
@@ -32,31 +39,43 @@ public class TournamentUserDAO {
      * Remove user from tournament
      */
     public void removeUserFromTournament(int tournamentId, String userId) throws SQLException {
-        String sql = "DELETE FROM tournament_members WHERE tournament_id = ? AND user_id = ?::uuid";
+        String sql = "DELETE FROM tournament_members WHERE tournament_id = ? AND user_id = ?";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("removeUserFromTournament");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, tournamentId);
-            pstmt.setString(2, userId);
-            pstmt.executeUpdate();
+            DataSources.dialect().setUuid(pstmt, 2, userId);
+            call.update(pstmt);
+        } finally {
+            PermissionCache.getInstance().invalidate();
         }
     }
 
     /**
-     * Get user role in tournament
+     * Get user role in tournament (cached for the logged-in user)
      */
     public String getUserRoleInTournament(int tournamentId, String userId) throws SQLException {
-        String sql = "SELECT role FROM tournament_members WHERE tournament_id = ? AND user_id = ?::uuid";
+        PermissionCache cache = PermissionCache.getInstance();
+        if (cache.isSessionUser(userId)) {
+            return cache.getRole(tournamentId);
+        }
+        return queryUserRole(tournamentId, userId);
+    }
+
+    private String queryUserRole(int tournamentId, String userId) throws SQLException {
+        String sql = "SELECT role FROM tournament_members WHERE tournament_id = ? AND user_id = ?";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("queryUserRole");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, tournamentId);
-            pstmt.setString(2, userId);
-            ResultSet rs = pstmt.executeQuery();
+            DataSources.dialect().setUuid(pstmt, 2, userId);
+            ResultSet rs = call.query(pstmt);
 
-            if (rs.next()) {
+            if (call.next(rs)) {
                 return rs.getString("role");
             }
         }
@@ -75,15 +94,18 @@ public class TournamentUserDAO {
      * Update user role in tournament
      */
     public void updateUserRole(int tournamentId, String userId, String newRole) throws SQLException {
-        String sql = "UPDATE tournament_members SET role = ? WHERE tournament_id = ? AND user_id = ?::uuid";
+        String sql = "UPDATE tournament_members SET role = ? WHERE tournament_id = ? AND user_id = ?";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("updateUserRole");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, newRole);
             pstmt.setInt(2, tournamentId);
-            pstmt.setString(3, userId);
-            pstmt.executeUpdate();
+            DataSources.dialect().setUuid(pstmt, 3, userId);
+            call.update(pstmt);
+        } finally {
+            PermissionCache.getInstance().invalidate();
         }
     }
 
@@ -98,13 +120,14 @@ public class TournamentUserDAO {
                 "WHERE tm.tournament_id = ? " +
                 "ORDER BY tm.joined_at DESC";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("getTournamentMembers");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, tournamentId);
-            ResultSet rs = pstmt.executeQuery();
+            ResultSet rs = call.query(pstmt);
 
-            while (rs.next()) {
+            while (call.next(rs)) {
                 TournamentMember member = new TournamentMember(
                         rs.getString("user_id"),
                         rs.getString("username"),
@@ -125,12 +148,13 @@ public class TournamentUserDAO {
         String code = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
         String sql = "UPDATE tournaments SET share_code = ? WHERE id = ?";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("generateShareCode");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, code);
             pstmt.setInt(2, tournamentId);
-            pstmt.executeUpdate();
+            call.update(pstmt);
         }
 
         return code;
@@ -142,13 +166,14 @@ public class TournamentUserDAO {
     public Integer getTournamentByShareCode(String shareCode) throws SQLException {
         String sql = "SELECT id FROM tournaments WHERE share_code = ?";
 
-        try (Connection conn = SupabaseConnection.getConnection();
+        try (DaoMetrics.Call call = metrics.start("getTournamentByShareCode");
+             Connection conn = call.acquired(DataSources.getConnection());
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, shareCode);
-            ResultSet rs = pstmt.executeQuery();
+            ResultSet rs = call.query(pstmt);
 
-            if (rs.next()) {
+            if (call.next(rs)) {
                 return rs.getInt("id");
             }
         }
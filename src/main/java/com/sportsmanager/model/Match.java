@@ -3,28 +3,43 @@ package com.sportsmanager.model;
 import javafx.beans.property.*;
 import java.time.LocalDate;
 
+/**
+ * Match row backed by plain fields
+ * JavaFX properties are created lazily, so rows that are never shown stay small
+ */
 public class Match {
-    private final IntegerProperty id;
-    private final StringProperty team1Name;
-    private final StringProperty team2Name;
-    private final ObjectProperty<LocalDate> matchDate;
-    private final StringProperty location;
-    private final IntegerProperty team1Score;
-    private final IntegerProperty team2Score;
-    private final StringProperty status;
-    private final IntegerProperty sportId;
+    private int id;
+    private String team1Name;
+    private String team2Name;
+    private LocalDate matchDate;
+    private String location;
+    private int team1Score;
+    private int team2Score;
+    private String status;
+    private int sportId;
+
+    // JavaFX properties, created on first use (visible or edited rows only)
+    private IntegerProperty idProperty;
+    private StringProperty team1NameProperty;
+    private StringProperty team2NameProperty;
+    private ObjectProperty<LocalDate> matchDateProperty;
+    private StringProperty locationProperty;
+    private IntegerProperty team1ScoreProperty;
+    private IntegerProperty team2ScoreProperty;
+    private StringProperty statusProperty;
+    private IntegerProperty sportIdProperty;
 
     public Match(int id, String team1Name, String team2Name, LocalDate matchDate,
                  String location, int team1Score, int team2Score, String status, int sportId) {
-        this.id = new SimpleIntegerProperty(id);
-        this.team1Name = new SimpleStringProperty(team1Name);
-        this.team2Name = new SimpleStringProperty(team2Name);
-        this.matchDate = new SimpleObjectProperty<>(matchDate);
-        this.location = new SimpleStringProperty(location);
-        this.team1Score = new SimpleIntegerProperty(team1Score);
-        this.team2Score = new SimpleIntegerProperty(team2Score);
-        this.status = new SimpleStringProperty(status);
-        this.sportId = new SimpleIntegerProperty(sportId);
+        this.id = id;
+        this.team1Name = intern(team1Name);
+        this.team2Name = intern(team2Name);
+        this.matchDate = matchDate;
+        this.location = intern(location);
+        this.team1Score = team1Score;
+        this.team2Score = team2Score;
+        this.status = intern(status);
+        this.sportId = sportId;
     }
 
     public Match(String team1Name, String team2Name, LocalDate matchDate, String location, int sportId) {
@@ -32,47 +47,106 @@ public class Match {
     }
 
     // ID
-    public int getId() { return id.get(); }
-    public void setId(int value) { id.set(value); }
-    public IntegerProperty idProperty() { return id; }
+    public int getId() { return idProperty != null ? idProperty.get() : id; }
+    public void setId(int value) {
+        if (idProperty != null) idProperty.set(value);
+        else id = value;
+    }
+    public IntegerProperty idProperty() {
+        if (idProperty == null) idProperty = new SimpleIntegerProperty(this, "id", id);
+        return idProperty;
+    }
 
     // Team 1 Name
-    public String getTeam1Name() { return team1Name.get(); }
-    public void setTeam1Name(String value) { team1Name.set(value); }
-    public StringProperty team1NameProperty() { return team1Name; }
+    public String getTeam1Name() { return team1NameProperty != null ? team1NameProperty.get() : team1Name; }
+    public void setTeam1Name(String value) {
+        if (team1NameProperty != null) team1NameProperty.set(value);
+        else team1Name = intern(value);
+    }
+    public StringProperty team1NameProperty() {
+        if (team1NameProperty == null) team1NameProperty = new SimpleStringProperty(this, "team1Name", team1Name);
+        return team1NameProperty;
+    }
 
     // Team 2 Name
-    public String getTeam2Name() { return team2Name.get(); }
-    public void setTeam2Name(String value) { team2Name.set(value); }
-    public StringProperty team2NameProperty() { return team2Name; }
+    public String getTeam2Name() { return team2NameProperty != null ? team2NameProperty.get() : team2Name; }
+    public void setTeam2Name(String value) {
+        if (team2NameProperty != null) team2NameProperty.set(value);
+        else team2Name = intern(value);
+    }
+    public StringProperty team2NameProperty() {
+        if (team2NameProperty == null) team2NameProperty = new SimpleStringProperty(this, "team2Name", team2Name);
+        return team2NameProperty;
+    }
 
     // Match Date
-    public LocalDate getMatchDate() { return matchDate.get(); }
-    public void setMatchDate(LocalDate value) { matchDate.set(value); }
-    public ObjectProperty<LocalDate> matchDateProperty() { return matchDate; }
+    public LocalDate getMatchDate() { return matchDateProperty != null ? matchDateProperty.get() : matchDate; }
+    public void setMatchDate(LocalDate value) {
+        if (matchDateProperty != null) matchDateProperty.set(value);
+        else matchDate = value;
+    }
+    public ObjectProperty<LocalDate> matchDateProperty() {
+        if (matchDateProperty == null) matchDateProperty = new SimpleObjectProperty<>(this, "matchDate", matchDate);
+        return matchDateProperty;
+    }
 
     // Location
-    public String getLocation() { return location.get(); }
-    public void setLocation(String value) { location.set(value); }
-    public StringProperty locationProperty() { return location; }
+    public String getLocation() { return locationProperty != null ? locationProperty.get() : location; }
+    public void setLocation(String value) {
+        if (locationProperty != null) locationProperty.set(value);
+        else location = intern(value);
+    }
+    public StringProperty locationProperty() {
+        if (locationProperty == null) locationProperty = new SimpleStringProperty(this, "location", location);
+        return locationProperty;
+    }
 
     // Team 1 Score
-    public int getTeam1Score() { return team1Score.get(); }
-    public void setTeam1Score(int value) { team1Score.set(value); }
-    public IntegerProperty team1ScoreProperty() { return team1Score; }
+    public int getTeam1Score() { return team1ScoreProperty != null ? team1ScoreProperty.get() : team1Score; }
+    public void setTeam1Score(int value) {
+        if (team1ScoreProperty != null) team1ScoreProperty.set(value);
+        else team1Score = value;
+    }
+    public IntegerProperty team1ScoreProperty() {
+        if (team1ScoreProperty == null) team1ScoreProperty = new SimpleIntegerProperty(this, "team1Score", team1Score);
+        return team1ScoreProperty;
+    }
 
     // Team 2 Score
-    public int getTeam2Score() { return team2Score.get(); }
-    public void setTeam2Score(int value) { team2Score.set(value); }
-    public IntegerProperty team2ScoreProperty() { return team2Score; }
+    public int getTeam2Score() { return team2ScoreProperty != null ? team2ScoreProperty.get() : team2Score; }
+    public void setTeam2Score(int value) {
+        if (team2ScoreProperty != null) team2ScoreProperty.set(value);
+        else team2Score = value;
+    }
+    public IntegerProperty team2ScoreProperty() {
+        if (team2ScoreProperty == null) team2ScoreProperty = new SimpleIntegerProperty(this, "team2Score", team2Score);
+        return team2ScoreProperty;
+    }
 
     // Status
-    public String getStatus() { return status.get(); }
-    public void setStatus(String value) { status.set(value); }
-    public StringProperty statusProperty() { return status; }
+    public String getStatus() { return statusProperty != null ? statusProperty.get() : status; }
+    public void setStatus(String value) {
+        if (statusProperty != null) statusProperty.set(value);
+        else status = intern(value);
+    }
+    public StringProperty statusProperty() {
+        if (statusProperty == null) statusProperty = new SimpleStringProperty(this, "status", status);
+        return statusProperty;
+    }
 
     // Sport ID
-    public int getSportId() { return sportId.get(); }
-    public void setSportId(int value) { sportId.set(value); }
-    public IntegerProperty sportIdProperty() { return sportId; }
-}
\ No newline at end of file
+    public int getSportId() { return sportIdProperty != null ? sportIdProperty.get() : sportId; }
+    public void setSportId(int value) {
+        if (sportIdProperty != null) sportIdProperty.set(value);
+        else sportId = value;
+    }
+    public IntegerProperty sportIdProperty() {
+        if (sportIdProperty == null) sportIdProperty = new SimpleIntegerProperty(this, "sportId", sportId);
+        return sportIdProperty;
+    }
+
+    // Team names, venues and statuses repeat across thousands of matches; share one copy
+    private static String intern(String value) {
+        return value != null ? value.intern() : null;
+    }
+}
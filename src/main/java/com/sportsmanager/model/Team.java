@@ -2,31 +2,49 @@ package com.sportsmanager.model;
 
 import javafx.beans.property.*;
 
+/**
+ * Team row backed by plain fields
+ * JavaFX properties are created lazily, so rows that are never shown stay small
+ */
 public class Team {
-    private final IntegerProperty id;
-    private final StringProperty name;
-    private final StringProperty coach;
-    private final IntegerProperty wins;
-    private final IntegerProperty losses;
-    private final IntegerProperty draws;
-    private final IntegerProperty points;
-    private final IntegerProperty goalsFor;
-    private final IntegerProperty goalsAgainst;
-    private final IntegerProperty sportId;
+    private int id;
+    private String name;
+    private String coach;
+    private int wins;
+    private int losses;
+    private int draws;
+    private int points;
+    private int goalsFor;
+    private int goalsAgainst;
+    private int sportId;
+    private int rank; // standings position, 0 when not ranked
+
+    // JavaFX properties, created on first use (visible or edited rows only)
+    private IntegerProperty idProperty;
+    private StringProperty nameProperty;
+    private StringProperty coachProperty;
+    private IntegerProperty winsProperty;
+    private IntegerProperty lossesProperty;
+    private IntegerProperty drawsProperty;
+    private IntegerProperty pointsProperty;
+    private IntegerProperty goalsForProperty;
+    private IntegerProperty goalsAgainstProperty;
+    private IntegerProperty sportIdProperty;
+    private IntegerProperty rankProperty;
 
     // Full constructor with all 10 parameters
     public Team(int id, String name, String coach, int wins, int losses, int draws,
                 int points, int goalsFor, int goalsAgainst, int sportId) {
-        this.id = new SimpleIntegerProperty(id);
-        this.name = new SimpleStringProperty(name);
-        this.coach = new SimpleStringProperty(coach);
-        this.wins = new SimpleIntegerProperty(wins);
-        this.losses = new SimpleIntegerProperty(losses);
-        this.draws = new SimpleIntegerProperty(draws);
-        this.points = new SimpleIntegerProperty(points);
-        this.goalsFor = new SimpleIntegerProperty(goalsFor);
-        this.goalsAgainst = new SimpleIntegerProperty(goalsAgainst);
-        this.sportId = new SimpleIntegerProperty(sportId);
+        this.id = id;
+        this.name = intern(name);
+        this.coach = intern(coach);
+        this.wins = wins;
+        this.losses = losses;
+        this.draws = draws;
+        this.points = points;
+        this.goalsFor = goalsFor;
+        this.goalsAgainst = goalsAgainst;
+        this.sportId = sportId;
     }
 
     // Simple constructor for new teams
@@ -35,62 +53,138 @@ public class Team {
     }
 
     // ID
-    public int getId() { return id.get(); }
-    public void setId(int value) { id.set(value); }
-    public IntegerProperty idProperty() { return id; }
+    public int getId() { return idProperty != null ? idProperty.get() : id; }
+    public void setId(int value) {
+        if (idProperty != null) idProperty.set(value);
+        else id = value;
+    }
+    public IntegerProperty idProperty() {
+        if (idProperty == null) idProperty = new SimpleIntegerProperty(this, "id", id);
+        return idProperty;
+    }
 
     // Name
-    public String getName() { return name.get(); }
-    public void setName(String value) { name.set(value); }
-    public StringProperty nameProperty() { return name; }
+    public String getName() { return nameProperty != null ? nameProperty.get() : name; }
+    public void setName(String value) {
+        if (nameProperty != null) nameProperty.set(value);
+        else name = intern(value);
+    }
+    public StringProperty nameProperty() {
+        if (nameProperty == null) nameProperty = new SimpleStringProperty(this, "name", name);
+        return nameProperty;
+    }
 
     // Coach
-    public String getCoach() { return coach.get(); }
-    public void setCoach(String value) { coach.set(value); }
-    public StringProperty coachProperty() { return coach; }
+    public String getCoach() { return coachProperty != null ? coachProperty.get() : coach; }
+    public void setCoach(String value) {
+        if (coachProperty != null) coachProperty.set(value);
+        else coach = intern(value);
+    }
+    public StringProperty coachProperty() {
+        if (coachProperty == null) coachProperty = new SimpleStringProperty(this, "coach", coach);
+        return coachProperty;
+    }
 
     // Wins
-    public int getWins() { return wins.get(); }
-    public void setWins(int value) { wins.set(value); }
-    public IntegerProperty winsProperty() { return wins; }
+    public int getWins() { return winsProperty != null ? winsProperty.get() : wins; }
+    public void setWins(int value) {
+        if (winsProperty != null) winsProperty.set(value);
+        else wins = value;
+    }
+    public IntegerProperty winsProperty() {
+        if (winsProperty == null) winsProperty = new SimpleIntegerProperty(this, "wins", wins);
+        return winsProperty;
+    }
 
     // Losses
-    public int getLosses() { return losses.get(); }
-    public void setLosses(int value) { losses.set(value); }
-    public IntegerProperty lossesProperty() { return losses; }
+    public int getLosses() { return lossesProperty != null ? lossesProperty.get() : losses; }
+    public void setLosses(int value) {
+        if (lossesProperty != null) lossesProperty.set(value);
+        else losses = value;
+    }
+    public IntegerProperty lossesProperty() {
+        if (lossesProperty == null) lossesProperty = new SimpleIntegerProperty(this, "losses", losses);
+        return lossesProperty;
+    }
 
     // Draws
-    public int getDraws() { return draws.get(); }
-    public void setDraws(int value) { draws.set(value); }
-    public IntegerProperty drawsProperty() { return draws; }
+    public int getDraws() { return drawsProperty != null ? drawsProperty.get() : draws; }
+    public void setDraws(int value) {
+        if (drawsProperty != null) drawsProperty.set(value);
+        else draws = value;
+    }
+    public IntegerProperty drawsProperty() {
+        if (drawsProperty == null) drawsProperty = new SimpleIntegerProperty(this, "draws", draws);
+        return drawsProperty;
+    }
 
     // Points
-    public int getPoints() { return points.get(); }
-    public void setPoints(int value) { points.set(value); }
-    public IntegerProperty pointsProperty() { return points; }
+    public int getPoints() { return pointsProperty != null ? pointsProperty.get() : points; }
+    public void setPoints(int value) {
+        if (pointsProperty != null) pointsProperty.set(value);
+        else points = value;
+    }
+    public IntegerProperty pointsProperty() {
+        if (pointsProperty == null) pointsProperty = new SimpleIntegerProperty(this, "points", points);
+        return pointsProperty;
+    }
 
     // Goals For
-    public int getGoalsFor() { return goalsFor.get(); }
-    public void setGoalsFor(int value) { goalsFor.set(value); }
-    public IntegerProperty goalsForProperty() { return goalsFor; }
+    public int getGoalsFor() { return goalsForProperty != null ? goalsForProperty.get() : goalsFor; }
+    public void setGoalsFor(int value) {
+        if (goalsForProperty != null) goalsForProperty.set(value);
+        else goalsFor = value;
+    }
+    public IntegerProperty goalsForProperty() {
+        if (goalsForProperty == null) goalsForProperty = new SimpleIntegerProperty(this, "goalsFor", goalsFor);
+        return goalsForProperty;
+    }
 
     // Goals Against
-    public int getGoalsAgainst() { return goalsAgainst.get(); }
-    public void setGoalsAgainst(int value) { goalsAgainst.set(value); }
-    public IntegerProperty goalsAgainstProperty() { return goalsAgainst; }
+    public int getGoalsAgainst() { return goalsAgainstProperty != null ? goalsAgainstProperty.get() : goalsAgainst; }
+    public void setGoalsAgainst(int value) {
+        if (goalsAgainstProperty != null) goalsAgainstProperty.set(value);
+        else goalsAgainst = value;
+    }
+    public IntegerProperty goalsAgainstProperty() {
+        if (goalsAgainstProperty == null) goalsAgainstProperty = new SimpleIntegerProperty(this, "goalsAgainst", goalsAgainst);
+        return goalsAgainstProperty;
+    }
 
     // Sport ID
-    public int getSportId() { return sportId.get(); }
-    public void setSportId(int value) { sportId.set(value); }
-    public IntegerProperty sportIdProperty() { return sportId; }
+    public int getSportId() { return sportIdProperty != null ? sportIdProperty.get() : sportId; }
+    public void setSportId(int value) {
+        if (sportIdProperty != null) sportIdProperty.set(value);
+        else sportId = value;
+    }
+    public IntegerProperty sportIdProperty() {
+        if (sportIdProperty == null) sportIdProperty = new SimpleIntegerProperty(this, "sportId", sportId);
+        return sportIdProperty;
+    }
+
+    // Rank
+    public int getRank() { return rankProperty != null ? rankProperty.get() : rank; }
+    public void setRank(int value) {
+        if (rankProperty != null) rankProperty.set(value);
+        else rank = value;
+    }
+    public IntegerProperty rankProperty() {
+        if (rankProperty == null) rankProperty = new SimpleIntegerProperty(this, "rank", rank);
+        return rankProperty;
+    }
 
     // Calculated: Goal Difference
     public int getGoalDifference() {
         return getGoalsFor() - getGoalsAgainst();
     }
 
+    // Team names and coaches repeat across thousands of rows; share one copy
+    private static String intern(String value) {
+        return value != null ? value.intern() : null;
+    }
+
     @Override
     public String toString() {
-        return name.get();
+        return getName();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,78 @@
+package com.sportsmanager.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Statistics for one tournament
+ * The counts come from the materialized tournament_stats row; rounds (one per match day) come from a
+ * single grouped pass over the tournament's matches.
+ */
+public class TournamentStats {
+
+    /**
+     * Progress of one match day
+     */
+    public record Round(LocalDate date, int matches, int completed, int goals, int highestScoringMatch) {
+        public boolean isFinished() {
+            return completed == matches;
+        }
+    }
+
+    private final int tournamentId;
+    private final int teamCount;
+    private final int matchCount;
+    private final int completedCount;
+    private final int totalGoals;
+    private final List<Round> rounds;
+
+    public TournamentStats(int tournamentId, int teamCount, int matchCount, int completedCount, int totalGoals,
+                           List<Round> rounds) {
+        this.tournamentId = tournamentId;
+        this.teamCount = teamCount;
+        this.matchCount = matchCount;
+        this.completedCount = completedCount;
+        this.totalGoals = totalGoals;
+        this.rounds = List.copyOf(rounds);
+    }
+
+    public int getTournamentId() { return tournamentId; }
+    public int getTeamCount() { return teamCount; }
+    public int getMatchCount() { return matchCount; }
+    public int getCompletedCount() { return completedCount; }
+    public int getTotalGoals() { return totalGoals; }
+    public List<Round> getRounds() { return rounds; }
+
+    public double getAverageGoalsPerMatch() {
+        return completedCount == 0 ? 0 : (double) totalGoals / completedCount;
+    }
+
+    public int getProgressPercent() {
+        return matchCount == 0 ? 0 : completedCount * 100 / matchCount;
+    }
+
+    /**
+     * The first match day that still has matches to play, or null when everything is played
+     */
+    public Round getCurrentRound() {
+        for (Round round : rounds) {
+            if (!round.isFinished()) {
+                return round;
+            }
+        }
+        return null;
+    }
+
+    public int getHighestScoringMatch() {
+        int highest = 0;
+        for (Round round : rounds) {
+            highest = Math.max(highest, round.highestScoringMatch());
+        }
+        return highest;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Teams: %d | Matches: %d | Completed: %d", teamCount, matchCount, completedCount);
+    }
+}
@@ -0,0 +1,654 @@
+package com.sportsmanager.tools;
+
+import com.sportsmanager.dao.ConnectionProvider;
+import com.sportsmanager.dao.DataSources;
+import com.sportsmanager.dao.SqlDialect;
+import com.sportsmanager.util.ConfigManager;
+import com.sportsmanager.util.IntSet;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Seeded test data for benchmarks and load tests, for SQLite or the Supabase schema
+ * The same seed and scale always produce the same rows: every sport draws from its own Random, and
+ * dates are laid out from a fixed anchor instead of today. Team standings are computed from the
+ * generated results, so standings, tournament statistics and search agree with each other.
+ * Producer threads build batches of sports while one connection writes them in order with batched inserts.
+ */
+public class DatasetGenerator {
+
+    /**
+     * How much data to generate
+     */
+    public record Scale(int sports, int teamsPerSport, int matchesPerSport, int tournamentsPerSport,
+                        int teamsPerTournament, int seasons, int profiles, int membersPerTournament) {
+
+        public static final Scale SMALL = new Scale(50, 12, 120, 2, 8, 2, 200, 4);
+        public static final Scale BENCHMARK = new Scale(2_000, 10, 100, 1, 8, 3, 5_000, 5);
+        public static final Scale LARGE = new Scale(5_000, 20, 400, 2, 16, 3, 50_000, 10);
+
+        public static Scale named(String name) {
+            return switch (name.toLowerCase(Locale.ROOT)) {
+                case "small" -> SMALL;
+                case "benchmark" -> BENCHMARK;
+                case "large" -> LARGE;
+                default -> throw new IllegalArgumentException("Unknown scale '" + name + "' (small, benchmark, large)");
+            };
+        }
+
+        public int teams() { return sports * teamsPerSport; }
+        public int matches() { return sports * matchesPerSport; }
+        public int tournaments() { return sports * tournamentsPerSport; }
+    }
+
+    /**
+     * What a run wrote
+     */
+    public record Summary(int sports, int teams, int matches, int tournaments, int profiles, int members,
+                          long millis) {
+        @Override
+        public String toString() {
+            return String.format("%,d sports, %,d teams, %,d matches, %,d tournaments, %,d profiles, %,d members in %,d ms",
+                    sports, teams, matches, tournaments, profiles, members, millis);
+        }
+    }
+
+    // The first season starts here; matches before CUTOFF are played, the rest scheduled
+    static final LocalDate ANCHOR = LocalDate.of(2023, 8, 1);
+    static final LocalDate CUTOFF = LocalDate.of(2025, 3, 1);
+    private static final int SEASON_DAYS = 240;
+    private static final int SPORTS_PER_COMMIT = 100;
+    private static final int PROFILES_PER_COMMIT = 1_000;
+
+    private static final String[][] SPORT_TYPES = {
+            {"Football", "GOALS"}, {"Basketball", "POINTS"}, {"Cricket", "RUNS"},
+            {"Tennis", "SETS"}, {"Hockey", "GOALS"}, {"Volleyball", "SETS"},
+            {"Handball", "GOALS"}, {"Rugby", "POINTS"}, {"Baseball", "RUNS"}, {"Futsal", "GOALS"}
+    };
+    private static final String[] REGIONS = {
+            "Northern", "Southern", "Eastern", "Western", "Central", "Coastal", "Highland", "Metro",
+            "Valley", "Island", "Capital", "Provincial"
+    };
+    private static final String[] CITIES = {
+            "Springfield", "Riverside", "Franklin", "Greenville", "Bristol", "Clinton", "Fairview",
+            "Salem", "Madison", "Georgetown", "Arlington", "Ashland", "Dover", "Oxford", "Jackson",
+            "Burlington", "Manchester", "Milton", "Newport", "Auburn", "Dayton", "Lexington",
+            "Milford", "Winchester", "Zürich", "München", "São Paulo", "Kraków", "Malmö", "Córdoba"
+    };
+    private static final String[] MASCOTS = {
+            "United", "City", "Rovers", "Wanderers", "Rangers", "Athletic", "Eagles", "Lions",
+            "Tigers", "Wolves", "Falcons", "Sharks", "Hawks", "Bears", "Panthers", "Warriors",
+            "Titans", "Comets", "Storm", "Thunder", "Dragons", "Knights", "Pirates", "Vikings"
+    };
+    private static final String[] FIRST_NAMES = {
+            "James", "Maria", "Chen", "Fatima", "Lukas", "Aisha", "Diego", "Yuki", "Olga", "Samuel",
+            "Priya", "Mateo", "Ingrid", "Kwame", "Sofia", "Ahmed", "Elena", "Noah", "Amara", "José"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Garcia", "Wang", "Okafor", "Müller", "Rossi", "Silva", "Kim", "Novak", "Haddad",
+            "Johansson", "Dubois", "Nakamura", "Mensah", "Kowalski", "Fernández", "Patel", "Byrne"
+    };
+    private static final String[] VENUES = {"Stadium", "Arena", "Park", "Ground", "Field", "Dome"};
+    private static final String[] TOURNAMENT_NAMES = {"Cup", "Open", "Championship", "Trophy", "Shield", "Classic"};
+
+    private final long seed;
+    private final Scale scale;
+    private final int producers;
+    private final int winPoints;
+    private final int drawPoints;
+
+    public DatasetGenerator(long seed, Scale scale) {
+        this(seed, scale, defaultProducers());
+    }
+
+    /**
+     * producers threads build rows while the calling thread writes them
+     */
+    public DatasetGenerator(long seed, Scale scale, int producers) {
+        this.seed = seed;
+        this.scale = scale;
+        this.producers = Math.max(producers, 1);
+        ConfigManager config = ConfigManager.getInstance();
+        this.winPoints = config.getWinPoints();
+        this.drawPoints = config.getDrawPoints();
+    }
+
+    // One core is left for the writer
+    static int defaultProducers() {
+        return Math.max(Runtime.getRuntime().availableProcessors() - 1, 1);
+    }
+
+    /**
+     * Generate a SQLite file for the seed and scale, or reuse the one a previous run left at file
+     * The data is written to a temporary file first, so an interrupted run is never mistaken for a finished one.
+     */
+    public static Path ensureSqlite(Path file, long seed, Scale scale) throws SQLException {
+        return ensureSqlite(file, seed, scale, defaultProducers());
+    }
+
+    public static Path ensureSqlite(Path file, long seed, Scale scale, int producers) throws SQLException {
+        if (Files.isRegularFile(file)) {
+            return file;
+        }
+        Path partial = file.resolveSibling(file.getFileName() + ".partial");
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.deleteIfExists(partial);
+        } catch (java.io.IOException e) {
+            throw new SQLException("Cannot prepare " + file + ": " + e.getMessage(), e);
+        }
+
+        ConnectionProvider provider = DataSources.sqlite(partial.toString());
+        try {
+            Summary summary = new DatasetGenerator(seed, scale, producers).generate(provider);
+            System.out.println("🧬 Generated " + file + ": " + summary);
+        } finally {
+            provider.close();
+        }
+
+        try {
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (java.io.IOException e) {
+            throw new SQLException("Cannot move " + partial + " to " + file + ": " + e.getMessage(), e);
+        }
+        return file;
+    }
+
+    /**
+     * Generate the dataset into the database behind provider (schema already created)
+     * Ids continue from the rows already there, so a dataset can be added to a database in use.
+     */
+    public Summary generate(ConnectionProvider provider) throws SQLException {
+        long start = System.currentTimeMillis();
+        SqlDialect dialect = provider.getDialect();
+        int teams = 0;
+        int matches = 0;
+        int tournaments = 0;
+        int members = 0;
+
+        ExecutorService pool = Executors.newFixedThreadPool(producers, runnable -> {
+            Thread thread = new Thread(runnable, "dataset-producer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try (Connection conn = provider.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            if (dialect == SqlDialect.SQLITE) {
+                try (Statement stmt = conn.createStatement()) {
+                    // A half-written file is thrown away anyway, so skip the fsyncs
+                    stmt.execute("PRAGMA synchronous = OFF");
+                }
+            }
+            conn.setAutoCommit(false);
+            try {
+                IdBase base = new IdBase(maxId(conn, "sports"), maxId(conn, "teams"), maxId(conn, "tournaments"),
+                        insertProfiles(conn, dialect, count(conn, "profiles")));
+
+                int chunks = (scale.sports() + SPORTS_PER_COMMIT - 1) / SPORTS_PER_COMMIT;
+                Deque<Future<List<SportData>>> pending = new ArrayDeque<>();
+                int submitted = 0;
+                for (int written = 0; written < chunks; written++) {
+                    // Keep the producers a couple of batches ahead; batches are written in order so ids stay stable
+                    while (submitted < chunks && pending.size() < producers * 2) {
+                        int from = submitted * SPORTS_PER_COMMIT;
+                        int to = Math.min(from + SPORTS_PER_COMMIT, scale.sports());
+                        pending.add(pool.submit(() -> buildSports(from, to, base)));
+                        submitted++;
+                    }
+
+                    List<SportData> sports = await(pending.poll());
+                    insert(conn, dialect, sports);
+                    conn.commit();
+                    for (SportData sport : sports) {
+                        teams += sport.teams().size();
+                        matches += sport.matches().size();
+                        tournaments += sport.tournaments().size();
+                        for (TournamentRow tournament : sport.tournaments()) {
+                            members += tournament.members().size();
+                        }
+                    }
+
+                    int done = Math.min((written + 1) * SPORTS_PER_COMMIT, scale.sports());
+                    if (done % (SPORTS_PER_COMMIT * 5) == 0 || done == scale.sports()) {
+                        System.out.println("🧬 Generated " + done + "/" + scale.sports() + " sports ("
+                                + (System.currentTimeMillis() - start) + " ms)");
+                    }
+                }
+
+                // Rows were written with explicit ids, so move the id sequences past them
+                for (String table : new String[]{"sports", "teams", "tournaments"}) {
+                    String sql = dialect.resetIdSequence(table);
+                    if (!sql.isEmpty()) {
+                        try (Statement stmt = conn.createStatement()) {
+                            stmt.execute(sql);
+                        }
+                    }
+                }
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return new Summary(scale.sports(), teams, matches, tournaments, scale.profiles(), members,
+                System.currentTimeMillis() - start);
+    }
+
+    private static List<SportData> await(Future<List<SportData>> batch) throws SQLException {
+        try {
+            return batch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while generating data", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new SQLException("Generating data failed: " + e.getCause(), e.getCause());
+        }
+    }
+
+    // ==================== Row generation ====================
+
+    record TeamRow(int id, String name, String city, String coach, int[] stats) {
+        // stats: wins, losses, draws, points, goals for, goals against
+    }
+
+    record MatchRow(int team1, int team2, LocalDate date, String location, int score1, int score2,
+                    String status, int tournamentId) {
+    }
+
+    record TournamentRow(int id, String name, String type, LocalDate start, LocalDate end, String status,
+                         double prize, int[] teamIds, String createdBy, List<MemberRow> members) {
+    }
+
+    record MemberRow(String userId, String role) {
+    }
+
+    // Where this run's ids start, and the profiles it created
+    record IdBase(int sport, int team, int tournament, String[] profiles) {
+    }
+
+    record SportData(int id, String name, String scoringType, List<TeamRow> teams,
+                     List<TournamentRow> tournaments, List<MatchRow> matches) {
+    }
+
+    private List<SportData> buildSports(int from, int to, IdBase base) {
+        List<SportData> sports = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            sports.add(buildSport(i, base));
+        }
+        return sports;
+    }
+
+    SportData buildSport(int index, IdBase base) {
+        // One Random per sport keeps every sport identical however the work is split up
+        Random random = new Random(seed * 1_000_003L + index);
+        // Owners and members come from their own stream, so the sports don't depend on the profile count
+        Random people = new Random(~(seed * 1_000_003L + index));
+        String[] type = SPORT_TYPES[index % SPORT_TYPES.length];
+        int sportId = base.sport() + index + 1;
+        String sportName = REGIONS[random.nextInt(REGIONS.length)] + " " + type[0] + " League " + sportId;
+
+        List<TeamRow> teams = new ArrayList<>(scale.teamsPerSport());
+        Set<String> names = new HashSet<>();
+        for (int t = 0; t < scale.teamsPerSport(); t++) {
+            String city = null;
+            String name = null;
+            for (int attempt = 0; attempt < 20 && name == null; attempt++) {
+                city = CITIES[random.nextInt(CITIES.length)];
+                String candidate = city + " " + MASCOTS[random.nextInt(MASCOTS.length)];
+                if (names.add(candidate)) {
+                    name = candidate;
+                }
+            }
+            if (name == null) {
+                name = city + " " + MASCOTS[t % MASCOTS.length] + " " + (t + 1);
+                names.add(name);
+            }
+            String coach = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            teams.add(new TeamRow(base.team() + index * scale.teamsPerSport() + t + 1, name, city, coach, new int[6]));
+        }
+
+        List<TournamentRow> tournaments = new ArrayList<>(scale.tournamentsPerSport());
+        for (int k = 0; k < scale.tournamentsPerSport(); k++) {
+            LocalDate start = ANCHOR.plusDays(random.nextInt(SEASON_DAYS * scale.seasons()));
+            LocalDate end = start.plusDays(14 + random.nextInt(60));
+            String status = end.isBefore(CUTOFF) ? "completed" : start.isBefore(CUTOFF) ? "ongoing" : "upcoming";
+            // Team indexes for now, replaced by ids once the matches are drawn
+            int[] roster = pick(random, teams.size(), Math.min(scale.teamsPerTournament(), teams.size()));
+            String createdBy = null;
+            List<MemberRow> members = new ArrayList<>();
+            String[] profiles = base.profiles();
+            if (profiles.length > 0) {
+                // The creator is the tournament's admin; everyone else got in with a share code
+                int[] picked = pickFew(people, profiles.length, Math.min(scale.membersPerTournament() + 1, profiles.length));
+                createdBy = profiles[picked[0]];
+                members.add(new MemberRow(createdBy, "admin"));
+                for (int p = 1; p < picked.length; p++) {
+                    members.add(new MemberRow(profiles[picked[p]], people.nextInt(4) == 0 ? "manager" : "viewer"));
+                }
+            }
+            tournaments.add(new TournamentRow(base.tournament() + index * scale.tournamentsPerSport() + k + 1,
+                    CITIES[random.nextInt(CITIES.length)] + " " + TOURNAMENT_NAMES[random.nextInt(TOURNAMENT_NAMES.length)]
+                            + " " + start.getYear(),
+                    random.nextBoolean() ? "league" : "knockout", start, end, status,
+                    random.nextInt(50) * 1000.0, roster, createdBy, members));
+        }
+
+        List<MatchRow> matches = new ArrayList<>(scale.matchesPerSport());
+        for (int m = 0; m < scale.matchesPerSport(); m++) {
+            int team1;
+            int team2;
+            LocalDate date;
+            int tournamentId = 0;
+            // A quarter of the matches belong to a tournament and fall inside its dates
+            if (!tournaments.isEmpty() && random.nextInt(4) == 0) {
+                TournamentRow tournament = tournaments.get(random.nextInt(tournaments.size()));
+                int[] roster = tournament.teamIds();
+                if (roster.length < 2) {
+                    continue;
+                }
+                int a = random.nextInt(roster.length);
+                int b = (a + 1 + random.nextInt(roster.length - 1)) % roster.length;
+                team1 = roster[a];
+                team2 = roster[b];
+                int span = (int) (tournament.end().toEpochDay() - tournament.start().toEpochDay()) + 1;
+                date = tournament.start().plusDays(random.nextInt(span));
+                tournamentId = tournament.id();
+            } else {
+                team1 = random.nextInt(teams.size());
+                team2 = (team1 + 1 + random.nextInt(teams.size() - 1)) % teams.size();
+                int season = m % scale.seasons();
+                date = ANCHOR.plusDays(season * 365L + random.nextInt(SEASON_DAYS));
+            }
+
+            TeamRow home = teams.get(team1);
+            TeamRow away = teams.get(team2);
+            String location = home.city() + " " + VENUES[random.nextInt(VENUES.length)];
+            if (date.isBefore(CUTOFF)) {
+                int[] score = score(random, type[1]);
+                record(home.stats(), score[0], score[1]);
+                record(away.stats(), score[1], score[0]);
+                matches.add(new MatchRow(team1, team2, date, location, score[0], score[1], "Completed", tournamentId));
+            } else {
+                matches.add(new MatchRow(team1, team2, date, location, 0, 0, "Scheduled", tournamentId));
+            }
+        }
+
+        for (TournamentRow tournament : tournaments) {
+            int[] roster = tournament.teamIds();
+            for (int r = 0; r < roster.length; r++) {
+                roster[r] = teams.get(roster[r]).id();
+            }
+        }
+        return new SportData(sportId, sportName, type[1], teams, tournaments, matches);
+    }
+
+    private static int[] score(Random random, String scoringType) {
+        return switch (scoringType) {
+            case "POINTS" -> new int[]{60 + random.nextInt(60), 60 + random.nextInt(60)};
+            case "RUNS" -> new int[]{100 + random.nextInt(200), 100 + random.nextInt(200)};
+            case "SETS" -> random.nextBoolean()
+                    ? new int[]{3, random.nextInt(3)}
+                    : new int[]{random.nextInt(3), 3};
+            default -> new int[]{weightedGoals(random), weightedGoals(random)};
+        };
+    }
+
+    // Mostly 0-2 goals, occasionally a big win
+    private static int weightedGoals(Random random) {
+        int goals = 0;
+        while (goals < 9 && random.nextInt(100) < 55) {
+            goals++;
+        }
+        return goals;
+    }
+
+    private void record(int[] stats, int goalsFor, int goalsAgainst) {
+        if (goalsFor > goalsAgainst) {
+            stats[0]++;
+            stats[3] += winPoints;
+        } else if (goalsFor < goalsAgainst) {
+            stats[1]++;
+        } else {
+            stats[2]++;
+            stats[3] += drawPoints;
+        }
+        stats[4] += goalsFor;
+        stats[5] += goalsAgainst;
+    }
+
+    // count distinct indexes below bound, in the order drawn
+    private static int[] pick(Random random, int bound, int count) {
+        int[] all = new int[bound];
+        for (int i = 0; i < bound; i++) {
+            all[i] = i;
+        }
+        for (int i = 0; i < count; i++) {
+            int j = i + random.nextInt(bound - i);
+            int swap = all[i];
+            all[i] = all[j];
+            all[j] = swap;
+        }
+        int[] picked = new int[count];
+        System.arraycopy(all, 0, picked, 0, count);
+        return picked;
+    }
+
+    // count distinct indexes below a large bound, without an array the size of the bound
+    private static int[] pickFew(Random random, int bound, int count) {
+        IntSet seen = new IntSet(count);
+        int[] picked = new int[count];
+        for (int i = 0; i < count; ) {
+            int candidate = random.nextInt(bound);
+            if (seen.add(candidate)) {
+                picked[i++] = candidate;
+            }
+        }
+        return picked;
+    }
+
+    // ==================== Inserts ====================
+
+    /**
+     * Profile i of a dataset always gets the same id, so runs with the same seed can be compared
+     */
+    static String profileId(long seed, int index) {
+        return UUID.nameUUIDFromBytes(("sports-dataset:" + seed + ":" + index).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private String[] insertProfiles(Connection conn, SqlDialect dialect, int profileBase) throws SQLException {
+        String[] ids = new String[scale.profiles()];
+        Random random = new Random(seed ^ 0x5DEECE66DL);
+        String sql = "INSERT INTO profiles (id, username, full_name, email, role) VALUES (?, ?, ?, ?, ?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < ids.length; i++) {
+                int number = profileBase + i + 1;
+                String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                int roll = random.nextInt(100);
+                String username = "fan" + number;
+
+                ids[i] = profileId(seed, profileBase + i);
+                dialect.setUuid(pstmt, 1, ids[i]);
+                pstmt.setString(2, username);
+                pstmt.setString(3, first + " " + last);
+                pstmt.setString(4, username + "@example.com");
+                pstmt.setString(5, roll == 0 ? "admin" : roll < 10 ? "manager" : "player");
+                pstmt.addBatch();
+
+                if ((i + 1) % PROFILES_PER_COMMIT == 0 || i == ids.length - 1) {
+                    pstmt.executeBatch();
+                    conn.commit();
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static void insert(Connection conn, SqlDialect dialect, List<SportData> sports) throws SQLException {
+        try (PreparedStatement sportStmt = conn.prepareStatement(
+                     "INSERT INTO sports (id, name, scoring_type) VALUES (?, ?, ?)");
+             PreparedStatement teamStmt = conn.prepareStatement(
+                     "INSERT INTO teams (id, name, coach, wins, losses, draws, points, goals_for, goals_against, sport_id) " +
+                             "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement tournamentStmt = conn.prepareStatement(
+                     "INSERT INTO tournaments (id, name, sport_id, tournament_type, start_date, end_date, status, " +
+                             "description, prize_money, created_by) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement rosterStmt = conn.prepareStatement(
+                     "INSERT INTO tournament_teams (tournament_id, team_id) VALUES (?, ?)");
+             PreparedStatement memberStmt = conn.prepareStatement(
+                     "INSERT INTO tournament_members (tournament_id, user_id, role) VALUES (?, ?, ?)");
+             PreparedStatement matchStmt = conn.prepareStatement(
+                     "INSERT INTO matches (team1_name, team2_name, match_date, location, team1_score, team2_score, " +
+                             "status, sport_id, tournament_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+
+            for (SportData sport : sports) {
+                sportStmt.setInt(1, sport.id());
+                sportStmt.setString(2, sport.name());
+                sportStmt.setString(3, sport.scoringType());
+                sportStmt.addBatch();
+
+                for (TeamRow team : sport.teams()) {
+                    int[] stats = team.stats();
+                    teamStmt.setInt(1, team.id());
+                    teamStmt.setString(2, team.name());
+                    teamStmt.setString(3, team.coach());
+                    for (int s = 0; s < stats.length; s++) {
+                        teamStmt.setInt(4 + s, stats[s]);
+                    }
+                    teamStmt.setInt(10, sport.id());
+                    teamStmt.addBatch();
+                }
+
+                for (TournamentRow tournament : sport.tournaments()) {
+                    tournamentStmt.setInt(1, tournament.id());
+                    tournamentStmt.setString(2, tournament.name());
+                    tournamentStmt.setInt(3, sport.id());
+                    tournamentStmt.setString(4, tournament.type());
+                    tournamentStmt.setDate(5, Date.valueOf(tournament.start()));
+                    tournamentStmt.setDate(6, Date.valueOf(tournament.end()));
+                    tournamentStmt.setString(7, tournament.status());
+                    tournamentStmt.setString(8, tournament.teamIds().length + "-team " + tournament.type() + " for " + sport.name());
+                    tournamentStmt.setDouble(9, tournament.prize());
+                    dialect.setUuid(tournamentStmt, 10, tournament.createdBy());
+                    tournamentStmt.addBatch();
+
+                    for (MemberRow member : tournament.members()) {
+                        memberStmt.setInt(1, tournament.id());
+                        dialect.setUuid(memberStmt, 2, member.userId());
+                        memberStmt.setString(3, member.role());
+                        memberStmt.addBatch();
+                    }
+
+                    for (int teamId : tournament.teamIds()) {
+                        rosterStmt.setInt(1, tournament.id());
+                        rosterStmt.setInt(2, teamId);
+                        rosterStmt.addBatch();
+                    }
+                }
+
+                for (MatchRow match : sport.matches()) {
+                    matchStmt.setString(1, sport.teams().get(match.team1()).name());
+                    matchStmt.setString(2, sport.teams().get(match.team2()).name());
+                    matchStmt.setDate(3, Date.valueOf(match.date()));
+                    matchStmt.setString(4, match.location());
+                    matchStmt.setInt(5, match.score1());
+                    matchStmt.setInt(6, match.score2());
+                    matchStmt.setString(7, match.status());
+                    matchStmt.setInt(8, sport.id());
+                    if (match.tournamentId() != 0) {
+                        matchStmt.setInt(9, match.tournamentId());
+                    } else {
+                        matchStmt.setNull(9, Types.INTEGER);
+                    }
+                    matchStmt.addBatch();
+                }
+            }
+
+            // Parents first, so foreign keys hold at every step
+            sportStmt.executeBatch();
+            teamStmt.executeBatch();
+            tournamentStmt.executeBatch();
+            rosterStmt.executeBatch();
+            memberStmt.executeBatch();
+            matchStmt.executeBatch();
+        }
+    }
+
+    private static int maxId(Connection conn, String table) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private static int count(Connection conn, String table) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    /**
+     * Generate a dataset: --db FILE (SQLite, the default) or --postgres (the configured Supabase
+     * database, schema already applied), plus --seed, --scale small|benchmark|large and --producers
+     */
+    public static void main(String[] args) throws SQLException {
+        ToolArgs options = new ToolArgs(args);
+        long seed = options.getLong("seed", 42L);
+        Scale scale = Scale.named(options.get("scale", "benchmark"));
+        int producers = options.getInt("producers", defaultProducers());
+
+        if (options.has("postgres")) {
+            ConnectionProvider provider = DataSources.postgres();
+            try {
+                Summary summary = new DatasetGenerator(seed, scale, producers).generate(provider);
+                System.out.println("🧬 Generated into " + provider.getName() + ": " + summary);
+            } finally {
+                provider.close();
+            }
+            return;
+        }
+
+        Path file = Path.of(options.get("db", "target/bench-data/sports-" + options.get("scale", "benchmark") + "-" + seed + ".db"));
+        if (Files.exists(file)) {
+            System.out.println("⚠️ " + file + " already exists; delete it to regenerate");
+            return;
+        }
+        ensureSqlite(file, seed, scale, producers);
+    }
+}
@@ -0,0 +1,93 @@
+package com.sportsmanager.tools;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latency samples per operation
+ * Each load-driver session records into its own instance, so recording takes no locks;
+ * merge() combines them for the report. Every sample is kept, which is fine for runs of minutes.
+ */
+final class LatencyRecorder {
+
+    private static final class Samples {
+        long[] nanos = new long[256];
+        int count;
+        int errors;
+        String firstError;
+
+        void add(long value) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = value;
+        }
+    }
+
+    private final Map<String, Samples> operations = new TreeMap<>();
+
+    void record(String operation, long nanos) {
+        operations.computeIfAbsent(operation, key -> new Samples()).add(nanos);
+    }
+
+    void error(String operation, Exception e) {
+        Samples samples = operations.computeIfAbsent(operation, key -> new Samples());
+        if (samples.errors++ == 0) {
+            samples.firstError = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        for (Map.Entry<String, Samples> entry : other.operations.entrySet()) {
+            Samples from = entry.getValue();
+            Samples into = operations.computeIfAbsent(entry.getKey(), key -> new Samples());
+            for (int i = 0; i < from.count; i++) {
+                into.add(from.nanos[i]);
+            }
+            if (into.firstError == null) {
+                into.firstError = from.firstError;
+            }
+            into.errors += from.errors;
+        }
+    }
+
+    /**
+     * One line per operation: calls, errors, throughput and p50/p95/p99/max in milliseconds,
+     * then the first error of each operation that failed
+     */
+    void print(PrintStream out, long elapsedMillis) {
+        out.printf("%-44s %8s %6s %8s %9s %9s %9s %9s%n",
+                "Operation", "Calls", "Errors", "Calls/s", "p50 ms", "p95 ms", "p99 ms", "Max ms");
+        for (Map.Entry<String, Samples> entry : operations.entrySet()) {
+            Samples samples = entry.getValue();
+            long[] sorted = Arrays.copyOf(samples.nanos, samples.count);
+            Arrays.sort(sorted);
+            out.printf("%-44s %8d %6d %8.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), samples.count, samples.errors,
+                    samples.count * 1000.0 / Math.max(elapsedMillis, 1),
+                    millis(percentile(sorted, 50)), millis(percentile(sorted, 95)),
+                    millis(percentile(sorted, 99)), millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+        }
+        for (Map.Entry<String, Samples> entry : operations.entrySet()) {
+            if (entry.getValue().firstError != null) {
+                out.println("⚠️ " + entry.getKey() + " failed " + entry.getValue().errors + "x, first: "
+                        + entry.getValue().firstError);
+            }
+        }
+    }
+
+    // Nearest rank
+    private static long percentile(long[] sorted, int percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(rank - 1, 0)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
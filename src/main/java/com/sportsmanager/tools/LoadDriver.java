@@ -0,0 +1,333 @@
+package com.sportsmanager.tools;
+
+import com.sportsmanager.dao.ConnectionProvider;
+import com.sportsmanager.dao.DaoMetrics;
+import com.sportsmanager.dao.DataSources;
+import com.sportsmanager.dao.MatchDAO;
+import com.sportsmanager.dao.SearchDAO;
+import com.sportsmanager.dao.SportDAO;
+import com.sportsmanager.dao.TeamDAO;
+import com.sportsmanager.dao.TournamentDAO;
+import com.sportsmanager.dao.TournamentUserDAO;
+import com.sportsmanager.model.Match;
+import com.sportsmanager.model.Tournament;
+import com.sportsmanager.model.User;
+import com.sportsmanager.util.SessionManager;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Headless load test: concurrent users replaying browse, search and record-result sessions
+ * against the DAOs, with p50/p95/p99 latency per DAO operation at the end.
+ * Record sessions change match results, so point it at a generated dataset rather than real data.
+ */
+public class LoadDriver {
+
+    /**
+     * Calls made by a session; a failure is counted against the operation and ends the session
+     */
+    @FunctionalInterface
+    private interface DaoCall<T> {
+        T run() throws SQLException;
+    }
+
+    private final int users;
+    private final long durationMillis;
+    private final long warmupMillis;
+    private final int thinkMillis;
+    private final int[] mix;
+    private final long seed;
+
+    // Loaded once before the sessions start
+    private int[] sportIds;
+    private List<String> teamNames;
+    private List<String> userIds;
+
+    private volatile long measureFrom;
+    private volatile long stopAt;
+
+    /**
+     * mix: relative weights of browse, search and record-result sessions
+     */
+    public LoadDriver(int users, long durationMillis, long warmupMillis, int thinkMillis, int[] mix, long seed) {
+        this.users = users;
+        this.durationMillis = durationMillis;
+        this.warmupMillis = warmupMillis;
+        this.thinkMillis = thinkMillis;
+        this.mix = mix;
+        this.seed = seed;
+    }
+
+    /**
+     * Run the sessions against the active data source and print the report
+     */
+    public void run() throws SQLException, InterruptedException {
+        loadReferenceData();
+        // Tournament lists are filtered by owner unless an admin is signed in; sessions pass their own user id where it matters
+        SessionManager.getInstance().login(new User("00000000-0000-0000-0000-000000000000",
+                "load-driver", "Load Driver", "load-driver@example.com", "admin"), "load-driver");
+
+        System.out.println("🏋️ " + users + " users for " + durationMillis / 1000 + " s (+" + warmupMillis / 1000
+                + " s warm-up), think " + thinkMillis + " ms, mix browse/search/record " + mix[0] + "/" + mix[1] + "/" + mix[2]);
+
+        long now = System.currentTimeMillis();
+        measureFrom = now + warmupMillis;
+        stopAt = measureFrom + durationMillis;
+
+        List<VirtualUser> sessions = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            VirtualUser user = new VirtualUser(i);
+            Thread thread = new Thread(user, "load-user-" + (i + 1));
+            sessions.add(user);
+            threads.add(thread);
+            thread.start();
+        }
+        // Leave the warm-up out of the per-phase DAO breakdown as well
+        Thread.sleep(Math.max(measureFrom - System.currentTimeMillis(), 0));
+        DaoMetrics.reset();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        LatencyRecorder total = new LatencyRecorder();
+        int[] completed = new int[3];
+        for (VirtualUser user : sessions) {
+            total.merge(user.recorder);
+            for (int i = 0; i < completed.length; i++) {
+                completed[i] += user.completed[i];
+            }
+        }
+        System.out.println("📊 Sessions completed: browse " + completed[0] + ", search " + completed[1]
+                + ", record result " + completed[2]);
+        total.print(System.out, durationMillis);
+        if (DaoMetrics.isEnabled()) {
+            System.out.println();
+            DaoMetrics.print(System.out);
+        }
+        System.out.println("🏊 " + DataSources.get().getStats());
+    }
+
+    private void loadReferenceData() throws SQLException {
+        List<Integer> sports = new ArrayList<>();
+        teamNames = new ArrayList<>();
+        userIds = new ArrayList<>();
+        try (Connection conn = DataSources.getConnection();
+             Statement stmt = conn.createStatement()) {
+            try (ResultSet rs = stmt.executeQuery("SELECT id FROM sports s WHERE EXISTS " +
+                    "(SELECT 1 FROM teams t WHERE t.sport_id = s.id) ORDER BY id")) {
+                while (rs.next()) {
+                    sports.add(rs.getInt(1));
+                }
+            }
+            try (ResultSet rs = stmt.executeQuery("SELECT name FROM teams ORDER BY id LIMIT 5000")) {
+                while (rs.next()) {
+                    teamNames.add(rs.getString(1));
+                }
+            }
+            try (ResultSet rs = stmt.executeQuery("SELECT id FROM profiles ORDER BY username LIMIT 5000")) {
+                while (rs.next()) {
+                    userIds.add(rs.getString(1));
+                }
+            }
+        }
+        if (sports.isEmpty()) {
+            throw new SQLException("No sports with teams to load-test; generate a dataset first");
+        }
+        sportIds = sports.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * One simulated user, on its own thread with its own Random and samples
+     */
+    private final class VirtualUser implements Runnable {
+        private final Random random;
+        private final String userId;
+        private final LatencyRecorder recorder = new LatencyRecorder();
+        private final int[] completed = new int[3];
+
+        private final SportDAO sportDAO = new SportDAO();
+        private final TeamDAO teamDAO = new TeamDAO();
+        private final MatchDAO matchDAO = new MatchDAO();
+        private final TournamentDAO tournamentDAO = new TournamentDAO();
+        private final TournamentUserDAO tournamentUserDAO = new TournamentUserDAO();
+        private final SearchDAO searchDAO = new SearchDAO();
+
+        VirtualUser(int index) {
+            this.random = new Random(seed * 31 + index);
+            this.userId = userIds.isEmpty() ? null : userIds.get(random.nextInt(userIds.size()));
+        }
+
+        @Override
+        public void run() {
+            while (System.currentTimeMillis() < stopAt) {
+                int roll = random.nextInt(mix[0] + mix[1] + mix[2]);
+                int session = roll < mix[0] ? 0 : roll < mix[0] + mix[1] ? 1 : 2;
+                try {
+                    switch (session) {
+                        case 0 -> browse();
+                        case 1 -> search();
+                        default -> recordResult();
+                    }
+                    if (System.currentTimeMillis() >= measureFrom) {
+                        completed[session]++;
+                    }
+                } catch (SQLException | RuntimeException e) {
+                    // Already counted against the operation; start a new session
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        // Open a sport: standings, the first pages of matches, then a tournament and its statistics
+        private void browse() throws SQLException, InterruptedException {
+            int sportId = randomSport();
+            timed("SportDAO.getAllSports", sportDAO::getAllSports);
+            think();
+            timed("TeamDAO.getStandingsBySport", () -> teamDAO.getStandingsBySport(sportId));
+            think();
+            List<Match> page = timed("MatchDAO.getMatchesPage", () -> matchDAO.getMatchesPage(sportId, null, 50));
+            if (!page.isEmpty() && random.nextBoolean()) {
+                think();
+                Match last = page.get(page.size() - 1);
+                timed("MatchDAO.getMatchesPage", () -> matchDAO.getMatchesPage(sportId, last, 50));
+            }
+            think();
+            List<Tournament> tournaments = timed("TournamentDAO.getTournamentsBySport",
+                    () -> tournamentDAO.getTournamentsBySport(sportId));
+            if (!tournaments.isEmpty()) {
+                int tournamentId = tournaments.get(random.nextInt(tournaments.size())).getId();
+                think();
+                timed("TournamentUserDAO.getUserRoleInTournament",
+                        () -> tournamentUserDAO.getUserRoleInTournament(tournamentId, userId));
+                timed("TournamentDAO.getTournamentStats", () -> tournamentDAO.getTournamentStats(tournamentId));
+                timed("TournamentDAO.getTournamentTeamIds", () -> tournamentDAO.getTournamentTeamIds(tournamentId));
+            }
+        }
+
+        // Type a team name a few letters at a time, searching everything, then sometimes the next page
+        private void search() throws SQLException, InterruptedException {
+            String name = teamNames.get(random.nextInt(teamNames.size()));
+            int sportId = random.nextInt(4) == 0 ? randomSport() : 0;
+            int length = Math.min(3, name.length());
+            List<SearchDAO.SearchHit> hits = List.of();
+            while (true) {
+                String query = name.substring(0, length);
+                hits = timed("SearchDAO.search", () -> searchDAO.search(query, sportId, 0, 25));
+                if (length == name.length()) {
+                    break;
+                }
+                think();
+                length = Math.min(name.length(), length + 2 + random.nextInt(4));
+            }
+            if (hits.size() == 25 && random.nextBoolean()) {
+                think();
+                timed("SearchDAO.search", () -> searchDAO.search(name, sportId, 1, 25));
+            }
+        }
+
+        // Find a scheduled match in a sport, record its score and reload the standings
+        private void recordResult() throws SQLException, InterruptedException {
+            int sportId = randomSport();
+            List<Match> page = timed("MatchDAO.getMatchesPage", () -> matchDAO.getMatchesPage(sportId, null, 50));
+            if (page.isEmpty()) {
+                return;
+            }
+            Match match = page.stream()
+                    .filter(m -> "Scheduled".equals(m.getStatus()))
+                    .findFirst()
+                    // Nothing left to play: correct the score of a played match instead
+                    .orElse(page.get(random.nextInt(page.size())));
+            int team1Score = random.nextInt(5);
+            int team2Score = random.nextInt(5);
+            think();
+            timed("MatchDAO.recordMatchResult", () -> matchDAO.recordMatchResult(match.getId(), team1Score, team2Score));
+            timed("TeamDAO.getStandingsBySport", () -> teamDAO.getStandingsBySport(sportId));
+        }
+
+        private int randomSport() {
+            return sportIds[random.nextInt(sportIds.length)];
+        }
+
+        private <T> T timed(String operation, DaoCall<T> call) throws SQLException {
+            long start = System.nanoTime();
+            try {
+                T result = call.run();
+                if (System.currentTimeMillis() >= measureFrom) {
+                    recorder.record(operation, System.nanoTime() - start);
+                }
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                if (System.currentTimeMillis() >= measureFrom) {
+                    recorder.error(operation, e);
+                }
+                throw e;
+            }
+        }
+
+        // Time spent reading the screen, around thinkMillis on average
+        private void think() throws InterruptedException {
+            if (thinkMillis > 0) {
+                Thread.sleep(random.nextInt(thinkMillis * 2 + 1));
+            }
+        }
+    }
+
+    /**
+     * Options: --db FILE (SQLite, generated with --scale and --seed if missing) or --postgres,
+     * --users, --duration and --warmup (seconds), --think (ms), --mix browse,search,record
+     * Recording results writes to the database, so --postgres runs read-only unless --allow-writes is given.
+     */
+    public static void main(String[] args) throws Exception {
+        ToolArgs options = new ToolArgs(args);
+        int users = options.getInt("users", 8);
+        long seed = options.getLong("seed", 42L);
+        boolean postgres = options.has("postgres");
+        String[] weights = options.get("mix", postgres ? "70,20,0" : "70,20,10").split(",");
+        if (weights.length != 3) {
+            throw new IllegalArgumentException("--mix needs three weights: browse,search,record");
+        }
+        int[] mix = new int[3];
+        for (int i = 0; i < 3; i++) {
+            mix[i] = Integer.parseInt(weights[i].trim());
+        }
+        if (postgres && mix[2] > 0 && !options.has("allow-writes")) {
+            throw new IllegalArgumentException("--postgres with a record weight would change real match results "
+                    + "and standings; use a record weight of 0 or add --allow-writes for a disposable database");
+        }
+
+        // Per-call log lines would time the console, and each user needs its own connection
+        if (System.getProperty("log.dao.mode") == null) {
+            System.setProperty("log.dao.mode", "off");
+        }
+        if (System.getProperty("db.sqlite.pool.size") == null) {
+            System.setProperty("db.sqlite.pool.size", String.valueOf(users));
+        }
+
+        ConnectionProvider provider;
+        if (postgres) {
+            provider = DataSources.postgres();
+        } else {
+            String scale = options.get("scale", "small");
+            Path file = Path.of(options.get("db", "target/load-data/sports-" + scale + "-" + seed + ".db"));
+            DatasetGenerator.ensureSqlite(file, seed, DatasetGenerator.Scale.named(scale));
+            provider = DataSources.sqlite(file.toString());
+        }
+        DataSources.use(provider);
+
+        try {
+            new LoadDriver(users, options.getInt("duration", 60) * 1000L, options.getInt("warmup", 10) * 1000L,
+                    options.getInt("think", 50), mix, seed).run();
+        } finally {
+            provider.close();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.sportsmanager.tools;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command-line options for the tools: --name value, or --flag on its own
+ */
+final class ToolArgs {
+    private final Map<String, String> values = new HashMap<>();
+
+    ToolArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected an --option, got '" + args[i] + "'");
+            }
+            String name = args[i].substring(2);
+            boolean hasValue = i + 1 < args.length && !args[i + 1].startsWith("--");
+            values.put(name, hasValue ? args[++i] : "true");
+        }
+    }
+
+    boolean has(String name) {
+        return values.containsKey(name);
+    }
+
+    String get(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    int getInt(String name, int defaultValue) {
+        String value = values.get(name);
+        try {
+            return value == null ? defaultValue : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " needs a number, got '" + value + "'");
+        }
+    }
+
+    long getLong(String name, long defaultValue) {
+        String value = values.get(name);
+        try {
+            return value == null ? defaultValue : Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " needs a number, got '" + value + "'");
+        }
+    }
+}
@@ -21,23 +21,28 @@ public class ConfigManager {
         }
     }
 
-    public static ConfigManager getInstance() {
+    public static synchronized ConfigManager getInstance() {
         if (instance == null) {
             instance = new ConfigManager();
         }
         return instance;
     }
 
+    /**
+     * A -Dkey=value system property overrides config.properties (used by benchmarks and load tools)
+     */
     public String get(String key) {
-        return properties.getProperty(key);
+        String override = System.getProperty(key);
+        return override != null ? override : properties.getProperty(key);
     }
 
     public String get(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        String value = get(key);
+        return value != null ? value : defaultValue;
     }
 
     public int getInt(String key, int defaultValue) {
-        String value = properties.getProperty(key);
+        String value = get(key);
         try {
             return value != null ? Integer.parseInt(value) : defaultValue;
         } catch (NumberFormatException e) {
@@ -46,7 +51,7 @@ public class ConfigManager {
     }
 
     public boolean getBoolean(String key, boolean defaultValue) {
-        String value = properties.getProperty(key);
+        String value = get(key);
         return value != null ? Boolean.parseBoolean(value) : defaultValue;
     }
 
@@ -0,0 +1,171 @@
+package com.sportsmanager.util;
+
+import java.util.Arrays;
+
+/**
+ * Hash set of int ids without boxing
+ * Open addressing with linear probing; 0 marks a free slot, so id 0 is tracked separately.
+ * Database ids are positive, which keeps lookups a few array reads.
+ */
+public class IntSet {
+    private static final int FREE = 0;
+
+    private int[] slots;
+    private int size;
+    private boolean containsZero;
+
+    public IntSet() {
+        this(16);
+    }
+
+    public IntSet(int expectedSize) {
+        slots = new int[capacityFor(expectedSize)];
+    }
+
+    public boolean contains(int value) {
+        if (value == FREE) {
+            return containsZero;
+        }
+        int mask = slots.length - 1;
+        for (int i = mix(value) & mask; ; i = (i + 1) & mask) {
+            int slot = slots[i];
+            if (slot == value) {
+                return true;
+            }
+            if (slot == FREE) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Add a value; returns false if it was already present
+     */
+    public boolean add(int value) {
+        if (value == FREE) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int mask = slots.length - 1;
+        int i = mix(value) & mask;
+        while (slots[i] != FREE) {
+            if (slots[i] == value) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        slots[i] = value;
+        size++;
+        // Keep the table at most half full so probe runs stay short
+        if (size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Remove a value; returns false if it wasn't present
+     */
+    public boolean remove(int value) {
+        if (value == FREE) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int mask = slots.length - 1;
+        int i = mix(value) & mask;
+        while (slots[i] != value) {
+            if (slots[i] == FREE) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        slots[i] = FREE;
+        size--;
+
+        // Re-place the rest of the probe run so later lookups don't stop at the new gap
+        for (int j = (i + 1) & mask; slots[j] != FREE; j = (j + 1) & mask) {
+            int moved = slots[j];
+            slots[j] = FREE;
+            int k = mix(moved) & mask;
+            while (slots[k] != FREE) {
+                k = (k + 1) & mask;
+            }
+            slots[k] = moved;
+        }
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(slots, FREE);
+        containsZero = false;
+        size = 0;
+    }
+
+    /**
+     * Values in ascending order
+     */
+    public int[] toArray() {
+        int[] values = new int[size];
+        int n = 0;
+        if (containsZero) {
+            values[n++] = 0;
+        }
+        for (int slot : slots) {
+            if (slot != FREE) {
+                values[n++] = slot;
+            }
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private void rehash(int capacity) {
+        int[] old = slots;
+        slots = new int[capacity];
+        int mask = capacity - 1;
+        for (int value : old) {
+            if (value != FREE) {
+                int i = mix(value) & mask;
+                while (slots[i] != FREE) {
+                    i = (i + 1) & mask;
+                }
+                slots[i] = value;
+            }
+        }
+    }
+
+    // Sequential ids would otherwise fill one contiguous run of slots
+    private static int mix(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = 16;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,227 @@
+package com.sportsmanager.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Application logging through SLF4J
+ * Messages are parameterized ("Loaded {} teams") and checked against the level before they are queued;
+ * with log.async=true one background thread formats and writes them, so DAO callers never wait on the
+ * console. Per-call DAO lines go through isCallLogged(), which log.dao.mode turns to all, sampled or off.
+ */
+public final class Log {
+
+    /**
+     * How many DAO calls get a log line
+     */
+    public enum DaoMode { ALL, SAMPLED, OFF }
+
+    private record Event(Logger logger, Level level, String format, Object[] args) {
+    }
+
+    private static final Event STOP = new Event(null, Level.INFO, null, null);
+
+    private static final boolean ASYNC;
+    private static final DaoMode DAO_MODE;
+    private static final int SAMPLE_EVERY;
+    private static final BlockingQueue<Event> QUEUE;
+    private static final LongAdder dropped = new LongAdder();
+    private static volatile Thread writer;
+    private static volatile boolean stopped = false;
+
+    static {
+        ConfigManager config = ConfigManager.getInstance();
+        ASYNC = config.getBoolean("log.async", true);
+        SAMPLE_EVERY = Math.max(config.getInt("log.dao.sample.every", 100), 1);
+        QUEUE = new ArrayBlockingQueue<>(Math.max(config.getInt("log.queue.capacity", 4096), 1));
+
+        DaoMode mode;
+        try {
+            mode = DaoMode.valueOf(config.get("log.dao.mode", "sampled").trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            mode = DaoMode.SAMPLED;
+        }
+        DAO_MODE = mode;
+    }
+
+    private final Logger logger;
+    private final AtomicLong calls = new AtomicLong();
+
+    private Log(Logger logger) {
+        this.logger = logger;
+    }
+
+    public static Log get(Class<?> type) {
+        return new Log(LoggerFactory.getLogger(type));
+    }
+
+    public static DaoMode getDaoMode() {
+        return DAO_MODE;
+    }
+
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+
+    public boolean isInfoEnabled() {
+        return logger.isInfoEnabled();
+    }
+
+    /**
+     * Whether this DAO call should log its line: always, every log.dao.sample.every-th call, or never
+     * Check it before building the message so skipped calls cost one counter increment.
+     */
+    public boolean isCallLogged() {
+        return switch (DAO_MODE) {
+            case OFF -> false;
+            case ALL -> logger.isInfoEnabled();
+            case SAMPLED -> calls.getAndIncrement() % SAMPLE_EVERY == 0 && logger.isInfoEnabled();
+        };
+    }
+
+    public void debug(String format, Object... args) {
+        if (logger.isDebugEnabled()) {
+            log(Level.DEBUG, format, args);
+        }
+    }
+
+    public void info(String format, Object... args) {
+        if (logger.isInfoEnabled()) {
+            log(Level.INFO, format, args);
+        }
+    }
+
+    public void warn(String format, Object... args) {
+        if (logger.isWarnEnabled()) {
+            log(Level.WARN, format, args);
+        }
+    }
+
+    /**
+     * A Throwable as the last argument is logged with its stack trace, as in SLF4J
+     */
+    public void error(String format, Object... args) {
+        if (logger.isErrorEnabled()) {
+            log(Level.ERROR, format, args);
+        }
+    }
+
+    /**
+     * Write everything queued so far and stop the writer thread; later messages are written directly
+     */
+    public static void shutdown() {
+        Thread current;
+        synchronized (Log.class) {
+            if (stopped) {
+                return;
+            }
+            stopped = true;
+            current = writer;
+        }
+        if (current == null) {
+            return;
+        }
+        try {
+            if (QUEUE.offer(STOP, 1, TimeUnit.SECONDS)) {
+                current.join(2000);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Whatever raced with shutdown
+        List<Event> leftovers = new ArrayList<>();
+        QUEUE.drainTo(leftovers);
+        for (Event event : leftovers) {
+            write(event);
+        }
+    }
+
+    /**
+     * Messages dropped because the queue was full
+     */
+    public static long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private void log(Level level, String format, Object[] args) {
+        Event event = new Event(logger, level, format, args);
+        if (!ASYNC || !ensureStarted()) {
+            write(event);
+            return;
+        }
+        // Errors are worth waiting a moment for; anything else is dropped rather than stall the caller
+        boolean queued;
+        try {
+            queued = level == Level.ERROR ? QUEUE.offer(event, 100, TimeUnit.MILLISECONDS) : QUEUE.offer(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            dropped.increment();
+            if (dropped.sum() % 1000 == 1) {
+                logger.warn("Log queue full, dropped {} message(s) so far", dropped.sum());
+            }
+        }
+    }
+
+    private static boolean ensureStarted() {
+        // Every queued message passes here; only the first one takes the lock
+        if (writer != null) {
+            return !stopped;
+        }
+        return startWriter();
+    }
+
+    private static synchronized boolean startWriter() {
+        if (stopped) {
+            return false;
+        }
+        if (writer == null) {
+            writer = new Thread(Log::run, "log-writer");
+            writer.setDaemon(true);
+            writer.start();
+            try {
+                Runtime.getRuntime().addShutdownHook(new Thread(Log::shutdown, "log-flush"));
+            } catch (IllegalStateException e) {
+                // Already exiting
+            }
+        }
+        return true;
+    }
+
+    private static void run() {
+        while (true) {
+            Event event;
+            try {
+                event = QUEUE.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (event == STOP) {
+                return;
+            }
+            write(event);
+        }
+    }
+
+    private static void write(Event event) {
+        Logger logger = event.logger();
+        switch (event.level()) {
+            case ERROR -> logger.error(event.format(), event.args());
+            case WARN -> logger.warn(event.format(), event.args());
+            case INFO -> logger.info(event.format(), event.args());
+            default -> logger.debug(event.format(), event.args());
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.sportsmanager.util;
+
+import javafx.animation.PauseTransition;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.scene.control.TextField;
+import javafx.util.Duration;
+
+import java.text.Normalizer;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Search box filter for a table's FilteredList
+ * Each row's searchable text is normalized once (lowercase, no accents) and cached; keystrokes are
+ * debounced, and a query that extends the previous one only re-checks the rows that already matched.
+ */
+public class SearchFilter<T> {
+    private static final Pattern ACCENTS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    // Keeps a query from matching across two fields
+    private static final char FIELD_SEPARATOR = '\u0000';
+    private static final Log log = Log.get(SearchFilter.class);
+
+    private final String name;
+    private final TextField field;
+    private final List<Function<T, String>> fields;
+    private final PauseTransition debounce;
+    private final Map<T, String> keys = new IdentityHashMap<>();
+    private final ListChangeListener<T> sourceListener = this::onSourceChanged;
+
+    private FilteredList<T> filtered;
+    private String activeQuery = "";
+    private Set<T> matches;
+
+    /**
+     * Filter rows whose fields contain the text typed in field (field may be null)
+     */
+    public SearchFilter(String name, TextField field, List<Function<T, String>> fields) {
+        this.name = name;
+        this.field = field;
+        this.fields = List.copyOf(fields);
+
+        if (field == null) {
+            // Queries come through filter(); a PauseTransition would also start the FX toolkit
+            this.debounce = null;
+        } else {
+            this.debounce = new PauseTransition(Duration.millis(
+                    ConfigManager.getInstance().getInt("ui.search.debounce.ms", 150)));
+            field.textProperty().addListener((observable, oldValue, newValue) -> {
+                if (newValue == null || newValue.isBlank()) {
+                    // Clearing the box should show everything right away
+                    debounce.stop();
+                    apply(newValue);
+                } else {
+                    debounce.setOnFinished(event -> apply(newValue));
+                    debounce.playFromStart();
+                }
+            });
+        }
+    }
+
+    /**
+     * Wrap freshly loaded rows, index them, and apply the current search text
+     */
+    public FilteredList<T> attach(ObservableList<T> source) {
+        if (filtered != null) {
+            @SuppressWarnings("unchecked")
+            ObservableList<T> previous = (ObservableList<T>) filtered.getSource();
+            previous.removeListener(sourceListener);
+        }
+
+        keys.clear();
+        for (T row : source) {
+            keys.put(row, buildKey(row));
+        }
+        source.addListener(sourceListener);
+
+        filtered = new FilteredList<>(source);
+        activeQuery = "";
+        matches = null;
+        apply(field != null ? field.getText() : null);
+        return filtered;
+    }
+
+    /**
+     * Apply a search right away, without waiting for the search box
+     */
+    public void filter(String text) {
+        apply(text);
+    }
+
+    /**
+     * Lowercase, strip accents and collapse whitespace so "Zürich  FC" matches "zurich fc"
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String plain = ACCENTS.matcher(decomposed).replaceAll("");
+        return SPACES.matcher(plain.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private void apply(String text) {
+        if (filtered == null) {
+            return;
+        }
+        String query = normalize(text);
+        if (query.equals(activeQuery) && (matches != null || query.isEmpty())) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        if (query.isEmpty()) {
+            activeQuery = query;
+            matches = null;
+            filtered.setPredicate(null);
+            return;
+        }
+
+        // Anything matching "arsen" also matches "arse", so only the previous matches need checking
+        Set<T> previous = matches != null && query.contains(activeQuery) ? matches : null;
+        Set<T> current = Collections.newSetFromMap(new IdentityHashMap<>());
+        boolean[] narrowing = {previous != null};
+
+        filtered.setPredicate(row -> {
+            // Rows added after this pass (e.g. the next match page) were never in the previous set
+            if (narrowing[0] && !previous.contains(row)) {
+                return false;
+            }
+            if (keyOf(row).contains(query)) {
+                current.add(row);
+                return true;
+            }
+            return false;
+        });
+        narrowing[0] = false;
+
+        activeQuery = query;
+        matches = current;
+        long micros = (System.nanoTime() - start) / 1000;
+        if (micros > 16_000) {
+            log.info("{} search '{}' took {} ms ({}/{} rows{})", name, query, micros / 1000,
+                    current.size(), filtered.getSource().size(), previous != null ? ", narrowed" : "");
+        }
+    }
+
+    private String keyOf(T row) {
+        String key = keys.get(row);
+        if (key == null) {
+            key = buildKey(row);
+            keys.put(row, key);
+        }
+        return key;
+    }
+
+    private String buildKey(T row) {
+        StringBuilder key = new StringBuilder();
+        for (Function<T, String> field : fields) {
+            if (key.length() > 0) {
+                key.append(FIELD_SEPARATOR);
+            }
+            key.append(normalize(field.apply(row)));
+        }
+        return key.toString();
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            for (T removed : change.getRemoved()) {
+                keys.remove(removed);
+            }
+            for (T added : change.getAddedSubList()) {
+                keys.put(added, buildKey(added));
+            }
+        }
+    }
+}
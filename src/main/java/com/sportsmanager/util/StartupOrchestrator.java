@@ -0,0 +1,192 @@
+package com.sportsmanager.util;
+
+import com.sportsmanager.dao.LocalReplica;
+import com.sportsmanager.dao.SportDAO;
+import com.sportsmanager.dao.BackupManager;
+import com.sportsmanager.dao.DataSources;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+
+import java.io.IOException;
+import java.net.URL;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs startup work in parallel while the login screen is shown:
+ * connection pool warm-up, the local replica, reference data, and a fully styled main.fxml scene graph.
+ * Every phase logs its duration so time-to-interactive can be measured.
+ */
+public class StartupOrchestrator {
+    private static StartupOrchestrator instance;
+
+    public static final double MAIN_WIDTH = 1728;
+    public static final double MAIN_HEIGHT = 972;
+
+    /**
+     * One unit of startup work
+     */
+    @FunctionalInterface
+    private interface Phase<T> {
+        T run() throws Exception;
+    }
+
+    private final long launchMillis = ProcessHandle.current().info().startInstant()
+            .map(Instant::toEpochMilli)
+            .orElse(System.currentTimeMillis());
+    private final Map<String, Long> timings = new LinkedHashMap<>();
+    private final ExecutorService executor;
+    private boolean started = false;
+    private CompletableFuture<FXMLLoader> mainView;
+
+    private StartupOrchestrator() {
+        AtomicInteger counter = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(4, runnable -> {
+            Thread thread = new Thread(runnable, "startup-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static synchronized StartupOrchestrator getInstance() {
+        if (instance == null) {
+            instance = new StartupOrchestrator();
+        }
+        return instance;
+    }
+
+    /**
+     * Start every background phase; call from Main.start before the login screen loads
+     */
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+
+        // Config is shared by every phase, so read it once up front
+        runTimed("config", ConfigManager::getInstance);
+
+        runAsync("connection pool", () -> {
+            DataSources.get().warmUp();
+            return null;
+        });
+        runAsync("local replica", () -> {
+            LocalReplica.start();
+            return null;
+        });
+        runAsync("backups", () -> {
+            BackupManager.getInstance().start();
+            return null;
+        });
+        runAsync("reference data", () -> new SportDAO().getAllSports());
+        mainView = preloadMainView();
+    }
+
+    /**
+     * Hand over the preloaded main screen (starting a fresh load if none is cached)
+     * The loader's root already sits in a styled Scene; its controller waits for startSession()
+     */
+    public synchronized CompletableFuture<FXMLLoader> takeMainView() {
+        CompletableFuture<FXMLLoader> view = mainView;
+        mainView = null;
+        if (view == null || view.isCompletedExceptionally()) {
+            view = preloadMainView();
+        }
+        return view;
+    }
+
+    /**
+     * Log a user-visible milestone relative to JVM launch
+     */
+    public void mark(String milestone) {
+        long sinceLaunch = System.currentTimeMillis() - launchMillis;
+        synchronized (timings) {
+            timings.put("▶ " + milestone, sinceLaunch);
+        }
+        System.out.println("⏱️ " + milestone + " at +" + sinceLaunch + " ms since launch");
+    }
+
+    /**
+     * Get the startup timing breakdown for display
+     */
+    public String getTimingReport() {
+        StringBuilder report = new StringBuilder("Startup timings:");
+        synchronized (timings) {
+            timings.forEach((phase, millis) -> report.append("\n  ")
+                    .append(String.format("%-22s %6d ms", phase, millis)));
+        }
+        return report.toString();
+    }
+
+    private CompletableFuture<FXMLLoader> preloadMainView() {
+        // FXML parsing and controller setup run off the FX thread
+        CompletableFuture<FXMLLoader> parsed = runAsync("main.fxml", () -> {
+            URL fxmlUrl = getClass().getResource("/fxml/main.fxml");
+            if (fxmlUrl == null) {
+                throw new IOException("FXML file not found at /fxml/main.fxml");
+            }
+            FXMLLoader loader = new FXMLLoader(fxmlUrl);
+            loader.load();
+            return loader;
+        });
+
+        // Scenes must be created on the FX thread; apply CSS there while the user is still typing
+        return parsed.thenCompose(loader -> {
+            CompletableFuture<FXMLLoader> styled = new CompletableFuture<>();
+            Platform.runLater(() -> {
+                try {
+                    runTimed("main.css", () -> {
+                        Parent root = loader.getRoot();
+                        Scene scene = new Scene(root, MAIN_WIDTH, MAIN_HEIGHT);
+                        scene.getStylesheets().add(getClass().getResource("/css/style.css").toExternalForm());
+                        root.applyCss();
+                        return scene;
+                    });
+                    styled.complete(loader);
+                } catch (Throwable e) {
+                    styled.completeExceptionally(e);
+                }
+            });
+            return styled;
+        });
+    }
+
+    private <T> CompletableFuture<T> runAsync(String name, Phase<T> phase) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(runTimed(name, phase));
+            } catch (Throwable e) {
+                System.err.println("⚠️ Startup phase '" + name + "' failed: " + e.getMessage());
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private <T> T runTimed(String name, Phase<T> phase) {
+        long start = System.currentTimeMillis();
+        try {
+            return phase.run();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        } finally {
+            long millis = System.currentTimeMillis() - start;
+            synchronized (timings) {
+                timings.put(name, millis);
+            }
+            System.out.println("⏱️ Startup phase '" + name + "' took " + millis + " ms (on " + Thread.currentThread().getName() + ")");
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.sportsmanager.dao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Backups of the active SQLite provider's file
+ */
+class BackupManagerTest {
+
+    private Path dir;
+    private ConnectionProvider database;
+
+    @BeforeEach
+    void openDatabase() throws IOException, SQLException {
+        dir = Files.createTempDirectory("backup-test");
+        database = DataSources.sqlite(dir.resolve("provider.db").toString());
+        DataSources.use(database);
+    }
+
+    @AfterEach
+    void closeDatabase() throws IOException {
+        database.close();
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void backupCopiesTheProviderDatabase() throws Exception {
+        try (Connection conn = DataSources.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(
+                     "INSERT INTO teams (name, coach, sport_id) VALUES ('Harbor FC', 'Coach Smith', " +
+                             "(SELECT MIN(id) FROM sports))")) {
+            pstmt.executeUpdate();
+        }
+
+        Path backup = BackupManager.getInstance().backupTo(dir.resolve("copy.db"), null).get();
+
+        try (Connection conn = DatabaseConnection.getConnection("jdbc:sqlite:" + backup);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM teams WHERE name = 'Harbor FC'")) {
+            rs.next();
+            assertEquals(1, rs.getInt(1));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.sportsmanager.dao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Push from a replica to a server, both in-memory SQLite databases with the app schema
+ */
+class ReplicaSyncWorkerTest {
+
+    private Connection local;
+    private Connection remote;
+    private int sportId;
+
+    @BeforeEach
+    void openDatabases() throws SQLException {
+        local = DatabaseConnection.getConnection("jdbc:sqlite::memory:");
+        remote = DatabaseConnection.getConnection("jdbc:sqlite::memory:");
+        DatabaseConnection.initializeDatabase(local);
+        DatabaseConnection.initializeDatabase(remote);
+        sportId = queryInt(remote, "SELECT MIN(id) FROM sports");
+    }
+
+    @AfterEach
+    void closeDatabases() throws SQLException {
+        local.close();
+        remote.close();
+    }
+
+    @Test
+    void resultRecordedBeforePushReachesTheServerOnce() throws SQLException {
+        ReplicaSyncWorker worker = new ReplicaSyncWorker();
+        addTeam("Harbor FC");
+        addTeam("Valley United");
+        assertEquals(2, worker.push(local, remote));
+
+        int matchId = LocalReplica.insert(local, "matches", LocalReplica.values(
+                "team1_name", "Harbor FC", "team2_name", "Valley United",
+                "match_date", Date.valueOf(LocalDate.of(2026, 5, 1)), "location", "Harbor Park",
+                "team1_score", 0, "team2_score", 0, "status", "Scheduled", "sport_id", sportId));
+        LocalReplica.recordMatchResult(local, matchId, 3, 1);
+
+        assertEquals(2, worker.push(local, remote));
+
+        assertEquals(0, queryInt(local, "SELECT COUNT(*) FROM sync_outbox"));
+        assertEquals("1 0 0 3 1", teamStats("Harbor FC"));
+        assertEquals("0 1 0 1 3", teamStats("Valley United"));
+        assertEquals("Completed 3-1", queryString(remote,
+                "SELECT status || ' ' || team1_score || '-' || team2_score FROM matches WHERE team1_name = 'Harbor FC'"));
+        // The replica keeps the server ids and the same standings
+        assertEquals(teamStats("Harbor FC"), queryString(local,
+                "SELECT wins || ' ' || losses || ' ' || draws || ' ' || goals_for || ' ' || goals_against " +
+                        "FROM teams WHERE name = 'Harbor FC' AND id > 0"));
+    }
+
+    @Test
+    void correctedResultBeforePushKeepsOnlyTheLatest() throws SQLException {
+        ReplicaSyncWorker worker = new ReplicaSyncWorker();
+        addTeam("Harbor FC");
+        addTeam("Valley United");
+        worker.push(local, remote);
+
+        int matchId = LocalReplica.insert(local, "matches", LocalReplica.values(
+                "team1_name", "Harbor FC", "team2_name", "Valley United",
+                "match_date", Date.valueOf(LocalDate.of(2026, 5, 1)), "location", "Harbor Park",
+                "team1_score", 0, "team2_score", 0, "status", "Scheduled", "sport_id", sportId));
+        LocalReplica.recordMatchResult(local, matchId, 3, 1);
+        LocalReplica.recordMatchResult(local, matchId, 2, 2);
+
+        worker.push(local, remote);
+
+        assertEquals("0 0 1 2 2", teamStats("Harbor FC"));
+        assertEquals("0 0 1 2 2", teamStats("Valley United"));
+    }
+
+    private void addTeam(String name) throws SQLException {
+        LocalReplica.insert(local, "teams", LocalReplica.values(
+                "name", name, "coach", "Coach " + name, "wins", 0, "losses", 0, "draws", 0,
+                "points", 0, "goals_for", 0, "goals_against", 0, "sport_id", sportId));
+    }
+
+    private String teamStats(String name) throws SQLException {
+        try (PreparedStatement pstmt = remote.prepareStatement(
+                "SELECT wins || ' ' || losses || ' ' || draws || ' ' || goals_for || ' ' || goals_against " +
+                        "FROM teams WHERE name = ? AND sport_id = ?")) {
+            pstmt.setString(1, name);
+            pstmt.setInt(2, sportId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    private static int queryInt(Connection conn, String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private static String queryString(Connection conn, String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.sportsmanager.dao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SearchDAO over an in-memory SQLite database
+ */
+class SearchDAOTest {
+
+    private ConnectionProvider database;
+
+    @BeforeEach
+    void openDatabase() throws SQLException {
+        database = DataSources.inMemory();
+        DataSources.use(database);
+    }
+
+    @AfterEach
+    void closeDatabase() {
+        database.close();
+        System.clearProperty("search.match.window");
+    }
+
+    @Test
+    void pagesComeFromOneRankedWindow() throws SQLException {
+        // Older teams match in the title; newer teams and matches only in the coach or venue
+        try (Connection conn = DataSources.getConnection();
+             PreparedStatement teams = conn.prepareStatement(
+                     "INSERT INTO teams (name, coach, sport_id) VALUES (?, ?, ?)");
+             PreparedStatement matches = conn.prepareStatement(
+                     "INSERT INTO matches (team1_name, team2_name, match_date, location, sport_id) VALUES (?, ?, ?, ?, ?)")) {
+            int sportId = firstSportId(conn);
+            for (int i = 0; i < 30; i++) {
+                addTeam(teams, "Harbor " + i, "Coach " + i, sportId);
+            }
+            for (int i = 0; i < 30; i++) {
+                addTeam(teams, "Team " + i, "Harbor Coach " + i, sportId);
+            }
+            teams.executeBatch();
+            for (int i = 0; i < 30; i++) {
+                matches.setString(1, "Team " + i);
+                matches.setString(2, "Team " + (i + 1) % 30);
+                matches.setDate(3, Date.valueOf(LocalDate.of(2026, 5, 1).plusDays(i)));
+                matches.setString(4, "Harbor Park");
+                matches.setInt(5, sportId);
+                matches.addBatch();
+            }
+            matches.executeBatch();
+        }
+        System.setProperty("search.match.window", "20");
+        SearchDAO searchDAO = new SearchDAO();
+
+        List<SearchDAO.SearchHit> paged = new ArrayList<>();
+        for (int page = 0; page < 20; page++) {
+            List<SearchDAO.SearchHit> hits = searchDAO.search("harbor", 0, page, 10);
+            if (hits.isEmpty()) {
+                break;
+            }
+            paged.addAll(hits);
+        }
+
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < paged.size(); i++) {
+            SearchDAO.SearchHit hit = paged.get(i);
+            assertTrue(seen.add(hit.kind + hit.id), "hit shown twice: " + hit);
+            if (i > 0) {
+                assertTrue(paged.get(i - 1).score >= hit.score, "pages out of rank order at " + i);
+            }
+            // Every title match comes before any coach or venue match
+            assertEquals(i < 30, hit.title.startsWith("Harbor"), "hit " + i + ": " + hit);
+        }
+        // All 60 teams, but only the newest 20 of the 30 matches
+        assertEquals(80, paged.size());
+    }
+
+    @Test
+    void olderTitleMatchIsNotCutByNewerDetailMatches() throws SQLException {
+        try (Connection conn = DataSources.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(
+                     "INSERT INTO teams (name, coach, sport_id) VALUES (?, ?, ?)")) {
+            int sportId = firstSportId(conn);
+            addTeam(pstmt, "Harbor FC", "Coach Smith", sportId);
+            for (int i = 0; i < 600; i++) {
+                addTeam(pstmt, "Team " + i, "Harbor Coach " + i, sportId);
+            }
+            pstmt.executeBatch();
+        }
+        System.setProperty("search.match.window", "20");
+
+        List<SearchDAO.SearchHit> hits = new SearchDAO().search("harbor", 0, 0, 10);
+
+        assertEquals("Harbor FC", hits.get(0).title);
+    }
+
+    @Test
+    void scoreRanksWholeWordsOverPrefixesOverSubstrings() {
+        List<String> terms = List.of("united");
+
+        double titleWord = SearchDAO.score(terms, "Valley United", "Coach Smith");
+        double titlePrefix = SearchDAO.score(terms, "Unitedville FC", "Coach Smith");
+        double titleSubstring = SearchDAO.score(terms, "Reunited FC", "Coach Smith");
+        double detailWord = SearchDAO.score(terms, "Harbor FC", "Coach United");
+        double detailPrefix = SearchDAO.score(terms, "Harbor FC", "Unitedville Park");
+        double detailSubstring = SearchDAO.score(terms, "Harbor FC", "Reunited Park");
+        double none = SearchDAO.score(terms, "Harbor FC", "Coach Smith");
+
+        assertTrue(titleWord > titlePrefix && titlePrefix > titleSubstring, "title order");
+        assertTrue(detailWord > detailPrefix && detailPrefix > detailSubstring, "detail order");
+        assertTrue(titleWord > detailWord && titlePrefix > detailPrefix, "title above detail");
+        assertTrue(detailSubstring > 0, "substring in the detail still counts");
+        assertEquals(0.0, none, 0.0);
+    }
+
+    @Test
+    void scoreAddsUpEveryTermAndIgnoresCaseAndAccents() {
+        double both = SearchDAO.score(List.of("zurich", "fc"), "FC Zürich", null);
+        double one = SearchDAO.score(List.of("zurich", "fc"), "Zürich Lions", null);
+
+        assertEquals(SearchDAO.score(List.of("zurich"), "fc zurich", ""),
+                SearchDAO.score(List.of("zurich"), "FC ZÜRICH", null), 0.0);
+        assertTrue(both > one, "a row matching both terms outranks one matching a single term");
+        assertFalse(SearchDAO.score(List.of("zurich"), null, null) > 0, "missing text scores nothing");
+    }
+
+    private static void addTeam(PreparedStatement pstmt, String name, String coach, int sportId) throws SQLException {
+        pstmt.setString(1, name);
+        pstmt.setString(2, coach);
+        pstmt.setInt(3, sportId);
+        pstmt.addBatch();
+    }
+
+    private static int firstSportId(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT MIN(id) FROM sports")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+}
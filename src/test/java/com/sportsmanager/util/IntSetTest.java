@@ -0,0 +1,74 @@
+package com.sportsmanager.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * IntSet against a TreeSet, with removals from the middle of probe runs
+ */
+class IntSetTest {
+
+    @Test
+    void removeKeepsTheRestOfTheProbeRunReachable() {
+        // A table up to half full has plenty of shared probe runs; removing each id in turn opens a gap in them
+        for (int removed = 1; removed <= 100; removed++) {
+            IntSet set = new IntSet();
+            for (int id = 1; id <= 100; id++) {
+                set.add(id);
+            }
+
+            assertTrue(set.remove(removed));
+
+            for (int id = 1; id <= 100; id++) {
+                assertEquals(id != removed, set.contains(id), "id " + id + " after removing " + removed);
+            }
+            assertEquals(99, set.size());
+        }
+    }
+
+    @Test
+    void matchesTreeSetUnderRandomAddsAndRemoves() {
+        Random random = new Random(42);
+        IntSet set = new IntSet();
+        Set<Integer> expected = new TreeSet<>();
+
+        // A small range keeps the table dense with collisions while it grows and empties
+        for (int step = 0; step < 20_000; step++) {
+            int value = random.nextInt(200);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), set.remove(value), "remove " + value + " at step " + step);
+            } else {
+                assertEquals(expected.add(value), set.add(value), "add " + value + " at step " + step);
+            }
+            assertEquals(expected.size(), set.size());
+            if (step % 500 == 0) {
+                for (int v = 0; v < 200; v++) {
+                    assertEquals(expected.contains(v), set.contains(v), "contains " + v + " at step " + step);
+                }
+            }
+        }
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), set.toArray());
+    }
+
+    @Test
+    void zeroIsTrackedOutsideTheTable() {
+        IntSet set = new IntSet();
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.contains(0));
+        assertEquals(1, set.size());
+
+        assertTrue(set.remove(0));
+        assertFalse(set.remove(0));
+        assertFalse(set.contains(0));
+        assertTrue(set.isEmpty());
+    }
+}
@@ -0,0 +1,68 @@
+package com.sportsmanager.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * LatencyHistogram bucket bounds and percentiles
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void smallValuesHaveTheirOwnBucket() {
+        for (int value = 0; value < 64; value++) {
+            assertEquals(value, LatencyHistogram.indexOf(value));
+            assertEquals(value, LatencyHistogram.highestValueIn(value));
+        }
+    }
+
+    @Test
+    void bucketsAreContiguousUpToTheMaximum() {
+        int last = LatencyHistogram.indexOf(LatencyHistogram.MAX_VALUE);
+        assertEquals(LatencyHistogram.MAX_VALUE, LatencyHistogram.highestValueIn(last));
+        for (int index = 0; index < last; index++) {
+            long highest = LatencyHistogram.highestValueIn(index);
+            assertEquals(index, LatencyHistogram.indexOf(highest), "upper bound of bucket " + index);
+            assertEquals(index + 1, LatencyHistogram.indexOf(highest + 1), "value after bucket " + index);
+        }
+    }
+
+    @Test
+    void bucketUpperBoundIsWithinOneThirtySecond() {
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong(LatencyHistogram.MAX_VALUE + 1);
+            // Spread the samples over every power of two, not just the top few
+            value >>>= random.nextInt(41);
+            long highest = LatencyHistogram.highestValueIn(LatencyHistogram.indexOf(value));
+            assertTrue(highest >= value, value + " reported as " + highest);
+            assertTrue((highest - value) * 32 <= value, value + " reported as " + highest);
+        }
+    }
+
+    @Test
+    void percentilesReportTheBucketBoundCappedAtTheMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 1000; nanos++) {
+            histogram.record(nanos * 1_000);
+        }
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1002, snapshot.count());
+        assertEquals(LatencyHistogram.MAX_VALUE, snapshot.max());
+        assertEquals(0, snapshot.percentile(0));
+
+        long p50 = snapshot.percentile(50);
+        assertTrue(p50 >= 500_000 && p50 <= 500_000 * 33 / 32, "p50 was " + p50);
+        long p99 = snapshot.percentile(99);
+        assertTrue(p99 >= 990_000 && p99 <= 990_000 * 33 / 32, "p99 was " + p99);
+        assertEquals(LatencyHistogram.MAX_VALUE, snapshot.percentile(100));
+        assertEquals(0, new LatencyHistogram().snapshot().percentile(99));
+    }
+}